@@ -0,0 +1,73 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.service.extraction.JobAnalysis;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the keyword extraction entry points over short, typical and huge postings.
+ * Run with the GC profiler (the default jmh.args) to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeywordExtractionBenchmark {
+
+    @Param({"SHORT", "TYPICAL", "HUGE"})
+    private PostingCorpus.Size size;
+
+    private KeywordExtractionService service;
+    private String description;
+    private String requirements;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        service = PostingCorpus.keywordExtractionService();
+        String[] posting = PostingCorpus.posting(size, 42L);
+        description = posting[0];
+        requirements = posting[1];
+        text = description + "\n" + requirements;
+    }
+
+    @Benchmark
+    public JobAnalysis analyze() {
+        return service.analyze(description, requirements);
+    }
+
+    @Benchmark
+    public List<String> extractKeywords() {
+        return service.extractKeywords(text);
+    }
+
+    @Benchmark
+    public List<String> extractRequiredSkills() {
+        return service.extractRequiredSkills(text);
+    }
+
+    @Benchmark
+    public String detectExperienceLevel() {
+        return service.detectExperienceLevel(text);
+    }
+
+    @Benchmark
+    public Map<String, Integer> getKeywordFrequency() {
+        return service.getKeywordFrequency(text);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the OpenNLP noun-phrase stage with per-thread pooled ME instances against
+ * instances built for every call (nlp.pooled). Runs on two threads, like the default
+ * nlp.threads executor.
+ *
+ * The models are not bundled; point NLP_TOKENIZER_MODEL, NLP_POS_MODEL and NLP_CHUNKER_MODEL
+ * at them as for the service, e.g. file:/opt/nlp/en-token.bin.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(2)
+public class NlpPipelineBenchmark {
+
+    @Param({"true", "false"})
+    private boolean pooled;
+
+    @Param({"SHORT", "TYPICAL", "HUGE"})
+    private PostingCorpus.Size size;
+
+    private NlpPipelineService service;
+    private String text;
+
+    @Setup
+    public void setUp() throws IOException {
+        service = PostingCorpus.nlpPipelineService(pooled);
+        String[] posting = PostingCorpus.posting(size, 42L);
+        text = posting[0] + "\n" + posting[1];
+        // Load the models outside the measurement, as the service does at startup
+        service.nounPhrases(text);
+    }
+
+    @Benchmark
+    public List<String> nounPhrases() throws IOException {
+        return service.nounPhrases(text);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,210 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.service.extraction.SkillDefinition;
+import com.atsoptimizer.jobanalyzer.service.extraction.SkillTaxonomy;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic job postings and service instances for the benchmarks.
+ *
+ * Postings are generated from a fixed seed, so every run measures the same text. They mix
+ * section headings, requirement and preference sentences, experience and education mentions
+ * and filler prose, with skills drawn from the bundled taxonomy and some of its aliases. The
+ * class and Size are public because JMH generates its harness in a jmh_generated subpackage.
+ */
+public final class PostingCorpus {
+
+    static final String TAXONOMY_LOCATION = "classpath:taxonomy/skills.json";
+
+    /**
+     * Posting sizes, as approximate character counts of description plus requirements
+     */
+    public enum Size {
+        SHORT(400),
+        TYPICAL(4_000),
+        HUGE(200_000);
+
+        private final int characters;
+
+        Size(int characters) {
+            this.characters = characters;
+        }
+    }
+
+    private static final String[] HEADINGS = {
+            "About the role", "What you'll do", "Requirements", "Nice to have", "Benefits", "Who you are"
+    };
+
+    private static final String[] REQUIRED_SENTENCES = {
+            "Must have strong experience with %s and %s.",
+            "%s is required, along with solid %s skills.",
+            "You have shipped production systems in %s and %s."
+    };
+
+    private static final String[] PREFERRED_SENTENCES = {
+            "Experience with %s is a plus.",
+            "Familiarity with %s or %s is preferred.",
+            "Nice to have: %s."
+    };
+
+    private static final String[] LEVEL_SENTENCES = {
+            "We are hiring a senior engineer with 5+ years of experience.",
+            "This is a mid-level position for someone with 3-5 years in the field.",
+            "Junior and entry-level candidates are welcome to apply.",
+            "A Bachelor's degree in Computer Science or equivalent is expected.",
+            "An MS or PhD in a quantitative field is an advantage."
+    };
+
+    private static final String[] FILLER_SENTENCES = {
+            "Our team builds the platform that powers hiring for thousands of companies.",
+            "You will collaborate closely with product, design and data science.",
+            "We value clear writing, thoughtful code review and ownership of outcomes.",
+            "The role is hybrid with two days a week in our downtown office.",
+            "We offer competitive pay, equity, health coverage and a learning budget."
+    };
+
+    private PostingCorpus() {
+    }
+
+    /**
+     * Description and requirements of one synthetic posting
+     */
+    static String[] posting(Size size, long seed) {
+        List<String> skills = skillTerms();
+        Random random = new Random(seed);
+        StringBuilder description = new StringBuilder(size.characters);
+        StringBuilder requirements = new StringBuilder(size.characters / 3);
+
+        while (description.length() + requirements.length() < size.characters) {
+            StringBuilder target = random.nextInt(3) == 0 ? requirements : description;
+            target.append(HEADINGS[random.nextInt(HEADINGS.length)]).append(":\n");
+            for (int sentence = 0; sentence < 4; sentence++) {
+                String template = switch (random.nextInt(4)) {
+                    case 0 -> REQUIRED_SENTENCES[random.nextInt(REQUIRED_SENTENCES.length)];
+                    case 1 -> PREFERRED_SENTENCES[random.nextInt(PREFERRED_SENTENCES.length)];
+                    case 2 -> LEVEL_SENTENCES[random.nextInt(LEVEL_SENTENCES.length)];
+                    default -> FILLER_SENTENCES[random.nextInt(FILLER_SENTENCES.length)];
+                };
+                String first = skills.get(random.nextInt(skills.size()));
+                String second = skills.get(random.nextInt(skills.size()));
+                target.append(String.format(template, first, second)).append(' ');
+            }
+            target.append("\n\n");
+        }
+        return new String[]{description.toString(), requirements.toString()};
+    }
+
+    static SkillTaxonomyService taxonomyService() {
+        SkillTaxonomy taxonomy = SkillTaxonomy.compile("benchmark", skillDefinitions());
+        return new SkillTaxonomyService(new DefaultResourceLoader(), objectMapper()) {
+            @Override
+            public SkillTaxonomy current() {
+                return taxonomy;
+            }
+        };
+    }
+
+    /**
+     * Extraction service with the bundled taxonomy and the NLP stage disabled
+     */
+    static KeywordExtractionService keywordExtractionService() {
+        return new KeywordExtractionService(taxonomyService(), new NlpPipelineService(new DefaultResourceLoader()),
+                metrics());
+    }
+
+    /**
+     * NLP stage enabled with the production model locations, which NLP_TOKENIZER_MODEL,
+     * NLP_POS_MODEL and NLP_CHUNKER_MODEL override as for the service. No executor is started;
+     * benchmarks call the pipeline on their own threads.
+     */
+    static NlpPipelineService nlpPipelineService(boolean pooled) {
+        NlpPipelineService service = new NlpPipelineService(new DefaultResourceLoader());
+        setField(service, "enabled", true);
+        setField(service, "pooled", pooled);
+        setField(service, "tokenizerModelLocation", env("NLP_TOKENIZER_MODEL", "classpath:nlp/en-token.bin"));
+        setField(service, "posModelLocation", env("NLP_POS_MODEL", "classpath:nlp/en-pos-maxent.bin"));
+        setField(service, "chunkerModelLocation", env("NLP_CHUNKER_MODEL", "classpath:nlp/en-chunker.bin"));
+        setField(service, "maxPhrases", 20);
+        return service;
+    }
+
+    /**
+     * Job service with only its JSON mapper and metrics wired, for the entity and DTO conversions
+     */
+    static JobService jobService(ObjectMapper objectMapper) {
+        return new JobService(null, null, null, null, metrics(), null, null, objectMapper, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Metrics recorded in memory, as extraction timers are part of the measured work
+     */
+    static JobMetrics metrics() {
+        return new JobMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * Mapper configured like the one Spring Boot provides to the services
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /**
+     * Typed JSON Redis serializer able to write the response timestamps, the format cached jobs
+     * used before the compact one. The no-argument serializer has no java.time support.
+     */
+    static GenericJackson2JsonRedisSerializer jsonRedisSerializer() {
+        ObjectMapper mapper = objectMapper();
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(mapper);
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static List<String> skillTerms() {
+        List<String> terms = new ArrayList<>();
+        for (SkillDefinition skill : skillDefinitions()) {
+            terms.add(skill.getName());
+            if (skill.getAliases() != null) {
+                terms.addAll(skill.getAliases());
+            }
+        }
+        return terms;
+    }
+
+    private static List<SkillDefinition> skillDefinitions() {
+        ObjectMapper mapper = objectMapper();
+        try (InputStream in = new DefaultResourceLoader().getResource(TAXONOMY_LOCATION).getInputStream()) {
+            JsonNode root = mapper.readTree(in);
+            return mapper.convertValue(root.path("skills"), new TypeReference<List<SkillDefinition>>() {});
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load skill taxonomy from " + TAXONOMY_LOCATION, e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.config.CompactRedisSerializer;
+import com.atsoptimizer.jobanalyzer.dto.JobResponse;
+import com.atsoptimizer.jobanalyzer.model.ExtractionStatus;
+import com.atsoptimizer.jobanalyzer.model.Job;
+import com.atsoptimizer.jobanalyzer.service.extraction.JobAnalysis;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the JSON paths between the job entity, its DTO and the Redis cache: the list
+ * columns written and read by JobService, the entity to response conversion, and round trips
+ * through the plain JSON Redis serializer and the compact one configured in RedisConfig. The
+ * encoded size of a cached job in both formats is printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"SHORT", "TYPICAL", "HUGE"})
+    private PostingCorpus.Size size;
+
+    private JobService jobService;
+    private GenericJackson2JsonRedisSerializer redisSerializer;
+    private CompactRedisSerializer compactSerializer;
+    private List<String> keywords;
+    private String keywordsJson;
+    private Job job;
+    private JobResponse response;
+    private byte[] cachedResponse;
+    private byte[] compactResponse;
+
+    @Setup
+    public void setUp() {
+        jobService = PostingCorpus.jobService(PostingCorpus.objectMapper());
+        redisSerializer = PostingCorpus.jsonRedisSerializer();
+        compactSerializer = new CompactRedisSerializer(redisSerializer, 1024);
+
+        String[] posting = PostingCorpus.posting(size, 42L);
+        JobAnalysis analysis = PostingCorpus.keywordExtractionService().analyze(posting[0], posting[1]);
+        keywords = analysis.getKeywords();
+        keywordsJson = jobService.toJson(keywords);
+
+        LocalDateTime now = LocalDateTime.now();
+        job = Job.builder()
+                .id(1L)
+                .userId("benchmark-user")
+                .title("Senior Software Engineer")
+                .company("Benchmark Corp")
+                .description(posting[0])
+                .requirements(posting[1])
+                .extractedKeywords(keywordsJson)
+                .requiredSkills(jobService.toJson(analysis.getRequiredSkills()))
+                .preferredSkills(jobService.toJson(analysis.getPreferredSkills()))
+                .experienceLevel(analysis.getExperienceLevel())
+                .educationLevel(analysis.getEducationLevel())
+                .taxonomyVersion(analysis.getTaxonomyVersion())
+                .extractionStatus(ExtractionStatus.COMPLETED)
+                .location("San Francisco, CA")
+                .jobType("Full-time")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        response = jobService.toJobResponse(job);
+        cachedResponse = redisSerializer.serialize(response);
+        compactResponse = compactSerializer.serialize(response);
+        System.out.printf("%nCached job size for %s posting: %d bytes as JSON, %d bytes compact (%.0f%% saved)%n",
+                size, cachedResponse.length, compactResponse.length,
+                100.0 * (cachedResponse.length - compactResponse.length) / cachedResponse.length);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return jobService.toJson(keywords);
+    }
+
+    @Benchmark
+    public List<String> fromJson() {
+        return jobService.fromJson(keywordsJson);
+    }
+
+    @Benchmark
+    public JobResponse toJobResponse() {
+        return jobService.toJobResponse(job);
+    }
+
+    @Benchmark
+    public byte[] serializeCachedJob() {
+        return redisSerializer.serialize(response);
+    }
+
+    @Benchmark
+    public Object deserializeCachedJob() {
+        return redisSerializer.deserialize(cachedResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeCompactJob() {
+        return compactSerializer.serialize(response);
+    }
+
+    @Benchmark
+    public Object deserializeCompactJob() {
+        return compactSerializer.deserialize(compactResponse);
+    }
+}
\ No newline at end of file
@@ -1,14 +1,22 @@
 package com.atsoptimizer.jobanalyzer;
 
+import com.atsoptimizer.jobanalyzer.cli.JobImportRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class JobAnalyzerApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(JobAnalyzerApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(JobAnalyzerApplication.class, args);
+        if (JobImportRunner.isImport(args)) {
+            // Import mode: the runner has finished, so shut down and exit with its code
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
\ No newline at end of file
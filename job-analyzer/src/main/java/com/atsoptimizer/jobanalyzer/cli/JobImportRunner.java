@@ -0,0 +1,67 @@
+package com.atsoptimizer.jobanalyzer.cli;
+
+import com.atsoptimizer.jobanalyzer.dto.ImportProgress;
+import com.atsoptimizer.jobanalyzer.model.ImportCheckpoint;
+import com.atsoptimizer.jobanalyzer.service.JobImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Command line import mode. Start the service with
+ * {@code --import-file=jobs.ndjson [--import-id=<id>] --spring.main.web-application-type=none}
+ * to import a file and exit; running the same command again resumes an interrupted import.
+ * The exit code, 0 once the import completed, is reported through {@link ExitCodeGenerator}
+ * when the application shuts down.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobImportRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    private static final String FILE_OPTION = "import-file";
+    private static final String ID_OPTION = "import-id";
+
+    private final JobImportService jobImportService;
+
+    private volatile int exitCode;
+
+    /**
+     * Whether the command line asks for an import, after which the application should exit
+     */
+    public static boolean isImport(String... args) {
+        return new DefaultApplicationArguments(args).containsOption(FILE_OPTION);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!args.containsOption(FILE_OPTION)) {
+            return;
+        }
+        Path file = Path.of(option(args, FILE_OPTION));
+        log.info("Importing jobs from {}", file);
+
+        ImportProgress progress = jobImportService.importFile(file, option(args, ID_OPTION));
+        log.info("Import {} finished with status {}: {} imported, {} failed", progress.getImportId(),
+                progress.getStatus(), progress.getImported(), progress.getFailed());
+
+        exitCode = ImportCheckpoint.COMPLETED.equals(progress.getStatus()) ? 0 : 1;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private static String option(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+}
\ No newline at end of file
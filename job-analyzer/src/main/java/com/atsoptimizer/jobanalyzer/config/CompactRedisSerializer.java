@@ -0,0 +1,112 @@
+package com.atsoptimizer.jobanalyzer.config;
+
+import com.atsoptimizer.jobanalyzer.dto.JobResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Redis value serializer that stores cached job responses in a compact, versioned binary form.
+ *
+ * A JobResponse is written as a magic byte, a schema version byte and a flags byte, followed by
+ * its Smile encoding without type information. Payloads above the threshold are deflated when
+ * that makes them smaller, which mostly pays off on the description text. Every other value,
+ * and every value without the magic byte, goes through the JSON fallback, so entries written
+ * before this format remain readable. Entries with an unknown schema version read as misses.
+ */
+@Slf4j
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    // Never the first byte of a JSON document
+    static final byte MAGIC = (byte) 0xB1;
+    static final byte SCHEMA_VERSION = 1;
+
+    private static final byte FLAG_DEFLATED = 1;
+    private static final int HEADER_LENGTH = 3;
+
+    private final RedisSerializer<Object> fallback;
+    private final ObjectMapper smileMapper;
+    private final int compressThreshold;
+
+    public CompactRedisSerializer(RedisSerializer<Object> fallback, int compressThreshold) {
+        this.fallback = fallback;
+        this.compressThreshold = compressThreshold;
+        this.smileMapper = new ObjectMapper(new SmileFactory())
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!(value instanceof JobResponse)) {
+            return fallback.serialize(value);
+        }
+        try {
+            byte[] payload = smileMapper.writeValueAsBytes(value);
+            byte flags = 0;
+            if (payload.length >= compressThreshold) {
+                byte[] deflated = deflate(payload);
+                if (deflated.length < payload.length) {
+                    payload = deflated;
+                    flags |= FLAG_DEFLATED;
+                }
+            }
+
+            byte[] bytes = new byte[HEADER_LENGTH + payload.length];
+            bytes[0] = MAGIC;
+            bytes[1] = SCHEMA_VERSION;
+            bytes[2] = flags;
+            System.arraycopy(payload, 0, bytes, HEADER_LENGTH, payload.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cached job", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[1] != SCHEMA_VERSION) {
+            log.debug("Ignoring cached job with unsupported schema version");
+            return null;
+        }
+        try {
+            ByteArrayInputStream payload = new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+            if ((bytes[2] & FLAG_DEFLATED) != 0) {
+                try (InflaterInputStream in = new InflaterInputStream(payload)) {
+                    return smileMapper.readValue(in, JobResponse.class);
+                }
+            }
+            return smileMapper.readValue(payload, JobResponse.class);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cached job", e);
+        }
+    }
+
+    private static byte[] deflate(byte[] payload) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2);
+        try (DeflaterOutputStream deflating = new DeflaterOutputStream(out, deflater)) {
+            deflating.write(payload);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.atsoptimizer.jobanalyzer.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${extraction.executor.threads}")
+    private int threads;
+
+    @Value("${extraction.executor.queue-capacity}")
+    private int queueCapacity;
+
+    /**
+     * Bounded pool for CPU-bound keyword extraction. When the queue is full the submitting
+     * thread runs the task itself, which throttles producers instead of dropping work.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor extractionExecutor() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("extraction-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
\ No newline at end of file
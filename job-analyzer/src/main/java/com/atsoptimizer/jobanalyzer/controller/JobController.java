@@ -1,15 +1,34 @@
 package com.atsoptimizer.jobanalyzer.controller;
 
+import com.atsoptimizer.jobanalyzer.dto.ExtractionCacheStats;
+import com.atsoptimizer.jobanalyzer.dto.ImportProgress;
+import com.atsoptimizer.jobanalyzer.dto.JobBatchResponse;
 import com.atsoptimizer.jobanalyzer.dto.JobCreateRequest;
+import com.atsoptimizer.jobanalyzer.dto.JobPage;
 import com.atsoptimizer.jobanalyzer.dto.JobResponse;
+import com.atsoptimizer.jobanalyzer.dto.NearDuplicateResponse;
+import com.atsoptimizer.jobanalyzer.dto.SkillSearchResponse;
+import com.atsoptimizer.jobanalyzer.model.ImportCheckpoint;
+import com.atsoptimizer.jobanalyzer.service.AsyncExtractionService;
+import com.atsoptimizer.jobanalyzer.service.AutocompleteService;
+import com.atsoptimizer.jobanalyzer.service.ExtractionCacheService;
+import com.atsoptimizer.jobanalyzer.service.JobImportService;
 import com.atsoptimizer.jobanalyzer.service.JobService;
+import com.atsoptimizer.jobanalyzer.service.NearDuplicateService;
+import com.atsoptimizer.jobanalyzer.service.SkillIndexService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
@@ -20,17 +39,86 @@ import java.util.Map;
 public class JobController {
 
     private final JobService jobService;
+    private final JobImportService jobImportService;
+    private final AsyncExtractionService asyncExtractionService;
+    private final ExtractionCacheService extractionCacheService;
+    private final NearDuplicateService nearDuplicateService;
+    private final AutocompleteService autocompleteService;
+    private final SkillIndexService skillIndexService;
+
+    @Value("${extraction.async.default}")
+    private boolean asyncByDefault;
 
     /**
-     * Create a new job posting
+     * Create a new job posting. With async=true the job is returned at once with a PENDING
+     * extraction status; poll the job or subscribe to its extraction events for the result.
      */
     @PostMapping
-    public ResponseEntity<JobResponse> createJob(@Valid @RequestBody JobCreateRequest request) {
+    public ResponseEntity<JobResponse> createJob(
+            @Valid @RequestBody JobCreateRequest request,
+            @RequestParam(required = false) Boolean async) {
         log.info("Received request to create job: {}", request.getTitle());
+        if (async != null ? async : asyncByDefault) {
+            JobResponse response = jobService.createJobAsync(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/jobs/" + response.getId()))
+                    .body(response);
+        }
         JobResponse response = jobService.createJob(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Create many job postings in one request
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<JobBatchResponse> createJobs(@RequestBody List<JobCreateRequest> requests) {
+        log.info("Received request to create batch of {} jobs", requests.size());
+        JobBatchResponse response = jobService.createJobs(requests);
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * Stream an NDJSON job dump into the database; pass the same importId again to resume
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImportProgress> importJobs(
+            @RequestParam(required = false) String importId,
+            InputStream body) {
+        log.info("Received NDJSON import request: {}", importId);
+        ImportProgress progress = jobImportService.importStream(body, importId);
+        HttpStatus status = ImportCheckpoint.FAILED.equals(progress.getStatus())
+                ? HttpStatus.INTERNAL_SERVER_ERROR : HttpStatus.OK;
+        return ResponseEntity.status(status).body(progress);
+    }
+
+    /**
+     * Get progress and throughput of an import
+     */
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<ImportProgress> getImportProgress(@PathVariable String importId) {
+        return ResponseEntity.ok(jobImportService.getProgress(importId));
+    }
+
+    /**
+     * Get many jobs by ID in one call, in the order given; unknown IDs are left out
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<JobResponse>> getJobs(@RequestParam List<Long> ids) {
+        log.info("Received request to get {} jobs", ids.size());
+        return ResponseEntity.ok(jobService.getJobs(ids));
+    }
+
+    /**
+     * Same as GET /api/v1/jobs?ids=..., for ID lists too long for a query string
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<List<JobResponse>> lookupJobs(@RequestBody List<Long> ids) {
+        log.info("Received lookup request for {} jobs", ids.size());
+        return ResponseEntity.ok(jobService.getJobs(ids));
+    }
+
     /**
      * Get job by ID
      */
@@ -41,6 +129,27 @@ public class JobController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Server-sent event with the job once its extraction completes or fails
+     */
+    @GetMapping(value = "/{jobId}/extraction-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToExtraction(@PathVariable Long jobId) {
+        log.info("Received extraction subscription for job: {}", jobId);
+        return asyncExtractionService.subscribe(jobId);
+    }
+
+    /**
+     * Jobs whose text is nearly identical to this one, most similar first
+     */
+    @GetMapping("/{jobId}/near-duplicates")
+    public ResponseEntity<List<NearDuplicateResponse>> getNearDuplicates(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) Double threshold,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Received near-duplicate request for job: {}", jobId);
+        return ResponseEntity.ok(nearDuplicateService.findNearDuplicates(jobId, threshold, limit));
+    }
+
     /**
      * Get all jobs for a user
      */
@@ -52,15 +161,93 @@ public class JobController {
     }
 
     /**
-     * Search jobs by keyword
+     * One page of a user's jobs, newest first; pass nextCursor back as cursor for the next page
+     */
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<JobPage> getUserJobsPage(
+            @PathVariable String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Received request for a page of jobs for user: {}", userId);
+        return ResponseEntity.ok(jobService.getUserJobsPage(userId, cursor, limit));
+    }
+
+    /**
+     * All of a user's jobs as a JSON array written while rows are read from the database
+     */
+    @GetMapping(value = "/user/{userId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUserJobs(@PathVariable String userId) {
+        log.info("Received request to stream jobs for user: {}", userId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> jobService.streamUserJobs(userId, out));
+    }
+
+    /**
+     * Search jobs by keyword; the best matches first, all of them unless limit is given.
+     * Without a limit the results are streamed like /search/stream, so memory does not grow
+     * with the result count; new clients should use /search/page.
      */
     @GetMapping("/search")
-    public ResponseEntity<List<JobResponse>> searchJobs(@RequestParam String keyword) {
+    public ResponseEntity<?> searchJobs(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer limit) {
+        if (limit == null) {
+            return streamSearchJobs(keyword);
+        }
         log.info("Received search request with keyword: {}", keyword);
-        List<JobResponse> response = jobService.searchJobs(keyword);
+        List<JobResponse> response = jobService.searchJobs(keyword, limit);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * One page of search results, best match first; pass nextCursor back as cursor for the next page
+     */
+    @GetMapping("/search/page")
+    public ResponseEntity<JobPage> searchJobsPage(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Received paged search request with keyword: {}", keyword);
+        return ResponseEntity.ok(jobService.searchJobsPage(keyword, cursor, limit));
+    }
+
+    /**
+     * All search results, best match first, as a JSON array written while rows are read from the database
+     */
+    @GetMapping(value = "/search/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSearchJobs(@RequestParam String keyword) {
+        log.info("Received streamed search request with keyword: {}", keyword);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> jobService.streamSearchJobs(keyword, out));
+    }
+
+    /**
+     * Typeahead suggestions for a job field, title or company, most frequent first
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(
+            @RequestParam(defaultValue = AutocompleteService.TITLE) String field,
+            @RequestParam String query,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(autocompleteService.suggest(field, query, limit));
+    }
+
+    /**
+     * Jobs with all skills in all, at least one in any and none in none, e.g.
+     * ?all=java,kubernetes&none=angular. Returns the total count and the newest job IDs.
+     */
+    @GetMapping("/skills/search")
+    public ResponseEntity<SkillSearchResponse> searchBySkills(
+            @RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(required = false) List<String> none,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Received skill search: all={}, any={}, none={}", all, any, none);
+        return ResponseEntity.ok(skillIndexService.search(all, any, none, limit));
+    }
+
     /**
      * Update job
      */
@@ -83,6 +270,14 @@ public class JobController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Hit rate of the extraction result cache
+     */
+    @GetMapping("/extraction-cache/stats")
+    public ResponseEntity<ExtractionCacheStats> getExtractionCacheStats() {
+        return ResponseEntity.ok(extractionCacheService.getStats());
+    }
+
     /**
      * Health check
      */
@@ -0,0 +1,21 @@
+package com.atsoptimizer.jobanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExtractionCacheStats {
+
+    private long localHits;
+    private long redisHits;
+    private long misses;
+    private double hitRate;
+    private long localSize;
+    private double averageExtractionMs;  // Mean cost of a miss
+    private long extractionTimeSavedMs;  // Hits times the mean cost of a miss
+}
\ No newline at end of file
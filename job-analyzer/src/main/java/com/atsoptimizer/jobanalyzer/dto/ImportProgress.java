@@ -0,0 +1,27 @@
+package com.atsoptimizer.jobanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportProgress {
+
+    private String importId;
+    private String source;
+    private String status;
+    private long linesRead;
+    private long committedLines;
+    private long committedBytes;
+    private long imported;
+    private long failed;
+    private double rowsPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+}
\ No newline at end of file
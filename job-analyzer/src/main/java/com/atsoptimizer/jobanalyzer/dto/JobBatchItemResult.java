@@ -0,0 +1,37 @@
+package com.atsoptimizer.jobanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBatchItemResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    private int index;
+    private String status;
+    private Long jobId;
+    private String error;
+
+    public static JobBatchItemResult created(int index, Long jobId) {
+        return JobBatchItemResult.builder()
+                .index(index)
+                .status(CREATED)
+                .jobId(jobId)
+                .build();
+    }
+
+    public static JobBatchItemResult failed(int index, String error) {
+        return JobBatchItemResult.builder()
+                .index(index)
+                .status(FAILED)
+                .error(error)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.atsoptimizer.jobanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBatchResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<JobBatchItemResult> results;
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.atsoptimizer.jobanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPage {
+
+    private List<JobResponse> jobs;
+    private String nextCursor;  // Pass back as cursor for the next page; null on the last page
+}
\ No newline at end of file
@@ -25,6 +25,9 @@ public class JobResponse {
     private List<String> preferredSkills;
     private String experienceLevel;
     private String educationLevel;
+    private String taxonomyVersion;
+    private String extractionStatus;
+    private Long canonicalJobId;
     private String location;
     private String jobType;
     private String sourceUrl;
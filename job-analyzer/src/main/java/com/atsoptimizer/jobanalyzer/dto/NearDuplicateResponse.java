@@ -0,0 +1,16 @@
+package com.atsoptimizer.jobanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearDuplicateResponse {
+
+    private Long jobId;
+    private double similarity;  // Estimated Jaccard similarity of the posting text
+}
\ No newline at end of file
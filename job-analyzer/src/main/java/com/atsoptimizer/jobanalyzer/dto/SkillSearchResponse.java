@@ -0,0 +1,18 @@
+package com.atsoptimizer.jobanalyzer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillSearchResponse {
+
+    private long count;  // All matching jobs, not only those listed
+    private List<Long> jobIds;  // Newest first, up to the requested limit
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.atsoptimizer.jobanalyzer.exception;
+
+public class ImportNotFoundException extends RuntimeException {
+    public ImportNotFoundException(String importId) {
+        super("Import not found with id: " + importId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.atsoptimizer.jobanalyzer.model;
+
+/**
+ * State of keyword extraction for a job. Rows created before asynchronous extraction
+ * have no status and are treated as completed.
+ */
+public enum ExtractionStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.atsoptimizer.jobanalyzer.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "job_import_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportCheckpoint {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @Column(length = 64)
+    private String importId;
+
+    @Column(length = 1000)
+    private String source;  // File path, or "upload" for HTTP imports
+
+    @Column(nullable = false)
+    private String status;  // RUNNING, COMPLETED, FAILED
+
+    @Column(nullable = false)
+    private long committedLines;  // Lines covered by the last committed chunk
+
+    @Column(nullable = false)
+    private long committedBytes;  // Byte offset just past the last committed line
+
+    @Column(nullable = false)
+    private long imported;
+
+    @Column(nullable = false)
+    private long failed;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
\ No newline at end of file
@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "jobs", indexes = {
         @Index(name = "idx_user_id", columnList = "userId"),
-        @Index(name = "idx_title", columnList = "title")
+        @Index(name = "idx_user_created", columnList = "userId, createdAt, id"),
+        @Index(name = "idx_title", columnList = "title"),
+        @Index(name = "idx_extraction_status", columnList = "extractionStatus")
 })
 @Data
 @Builder
@@ -19,8 +21,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Job {
 
+    // Pooled sequence so Hibernate can batch inserts; IDENTITY disables JDBC batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -53,6 +57,19 @@ public class Job {
     @Column
     private String educationLevel;  // Bachelor's, Master's, etc.
 
+    @Column(length = 64)
+    private String taxonomyVersion;  // Skill taxonomy used for extraction
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ExtractionStatus extractionStatus;  // Null for rows created before async extraction
+
+    @Column
+    private byte[] minhashSignature;  // MinHash of description and requirements
+
+    @Column
+    private Long canonicalJobId;  // Near-duplicate whose extraction results were reused
+
     @Column(length = 1000)
     private String location;
 
@@ -0,0 +1,9 @@
+package com.atsoptimizer.jobanalyzer.repository;
+
+import com.atsoptimizer.jobanalyzer.model.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
\ No newline at end of file
@@ -1,25 +1,143 @@
 package com.atsoptimizer.jobanalyzer.repository;
 
+import com.atsoptimizer.jobanalyzer.model.ExtractionStatus;
 import com.atsoptimizer.jobanalyzer.model.Job;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
 
+    // Rows fetched per round trip when streaming; the driver only honours it inside a transaction
+    String STREAM_FETCH_SIZE = "500";
+
     List<Job> findByUserId(String userId);
 
-    List<Job> findByTitleContainingIgnoreCase(String title);
+    @Query("SELECT j FROM Job j WHERE j.userId = :userId ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findPageByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @Query("SELECT j FROM Job j WHERE j.userId = :userId AND " +
+            "(j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id)) " +
+            "ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findPageByUserIdBefore(@Param("userId") String userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT j FROM Job j WHERE j.userId = :userId ORDER BY j.createdAt DESC, j.id DESC")
+    Stream<Job> streamByUserId(@Param("userId") String userId);
+
+    @Query("SELECT j.title AS value, COUNT(j) AS jobs FROM Job j GROUP BY j.title ORDER BY COUNT(j) DESC")
+    List<ValueCount> findTopTitles(Pageable pageable);
+
+    @Query("SELECT j.company AS value, COUNT(j) AS jobs FROM Job j WHERE j.company IS NOT NULL " +
+            "GROUP BY j.company ORDER BY COUNT(j) DESC")
+    List<ValueCount> findTopCompanies(Pageable pageable);
+
+    // Substring matches served by the pg_trgm indexes in schema.sql; prefix matches rank first
+    @Query(value = "SELECT title AS value, COUNT(*) AS jobs FROM jobs WHERE lower(title) LIKE :pattern " +
+            "GROUP BY title ORDER BY bool_or(lower(title) LIKE :prefix) DESC, jobs DESC, title LIMIT :limit",
+            nativeQuery = true)
+    List<ValueCount> findTitlesMatching(@Param("pattern") String pattern,
+                                        @Param("prefix") String prefix,
+                                        @Param("limit") int limit);
+
+    @Query(value = "SELECT company AS value, COUNT(*) AS jobs FROM jobs WHERE lower(company) LIKE :pattern " +
+            "GROUP BY company ORDER BY bool_or(lower(company) LIKE :prefix) DESC, jobs DESC, company LIMIT :limit",
+            nativeQuery = true)
+    List<ValueCount> findCompaniesMatching(@Param("pattern") String pattern,
+                                           @Param("prefix") String prefix,
+                                           @Param("limit") int limit);
+
+    // Ranked full-text search over the search_vector column maintained by schema.sql
+    String SEARCH_MATCH = "FROM jobs j, websearch_to_tsquery('english', :query) q WHERE j.search_vector @@ q ";
+    String SEARCH_RANK = "ts_rank(j.search_vector, q)";
+
+    @Query(value = "SELECT j.id AS id, " + SEARCH_RANK + " AS score " + SEARCH_MATCH +
+            "ORDER BY score DESC, j.id DESC LIMIT :limit", nativeQuery = true)
+    List<JobSearchHit> search(@Param("query") String query, @Param("limit") int limit);
+
+    @Query(value = "SELECT j.id AS id, " + SEARCH_RANK + " AS score " + SEARCH_MATCH +
+            "AND (" + SEARCH_RANK + " < :score OR (" + SEARCH_RANK + " = :score AND j.id < :id)) " +
+            "ORDER BY score DESC, j.id DESC LIMIT :limit", nativeQuery = true)
+    List<JobSearchHit> searchAfter(@Param("query") String query,
+                                   @Param("score") float score,
+                                   @Param("id") Long id,
+                                   @Param("limit") int limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(value = "SELECT j.* " + SEARCH_MATCH + "ORDER BY " + SEARCH_RANK + " DESC, j.id DESC", nativeQuery = true)
+    Stream<Job> streamSearch(@Param("query") String query);
+
+    @Query("SELECT j.id FROM Job j WHERE j.extractionStatus = :status AND j.updatedAt < :before " +
+            "ORDER BY j.updatedAt")
+    List<Long> findIdsByExtractionStatusUpdatedBefore(@Param("status") ExtractionStatus status,
+                                                      @Param("before") LocalDateTime before,
+                                                      Pageable pageable);
+
+    // Conditional updates: only one replica's update matches, so only that replica acts on the job
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.extractionStatus = :status AND j.updatedAt < :before")
+    int claimStale(@Param("id") Long id,
+                   @Param("status") ExtractionStatus status,
+                   @Param("before") LocalDateTime before,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Job j SET j.extractionStatus = :to, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.extractionStatus = :from")
+    int updateExtractionStatus(@Param("id") Long id,
+                               @Param("from") ExtractionStatus from,
+                               @Param("to") ExtractionStatus to,
+                               @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.id FROM Job j WHERE j.id > :afterId ORDER BY j.id")
+    List<Long> findIdsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT j.id AS id, j.minhashSignature AS minhashSignature, j.updatedAt AS updatedAt FROM Job j " +
+            "WHERE j.id > :afterId AND j.minhashSignature IS NOT NULL ORDER BY j.id")
+    List<JobSignature> findSignaturesAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Keyset on (updatedAt, id), so rows sharing a timestamp across a page boundary are not skipped
+    @Query("SELECT j.id AS id, j.minhashSignature AS minhashSignature, j.updatedAt AS updatedAt FROM Job j " +
+            "WHERE (j.updatedAt > :since OR (j.updatedAt = :since AND j.id > :afterId)) " +
+            "AND j.minhashSignature IS NOT NULL ORDER BY j.updatedAt, j.id")
+    List<JobSignature> findSignaturesUpdatedAfter(@Param("since") LocalDateTime since,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
+
+    @Query("SELECT j.id AS id, j.extractedKeywords AS extractedKeywords, j.requiredSkills AS requiredSkills, " +
+            "j.preferredSkills AS preferredSkills, j.updatedAt AS updatedAt FROM Job j " +
+            "WHERE j.id > :afterId ORDER BY j.id")
+    List<JobSkills> findSkillsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT j.id AS id, j.extractedKeywords AS extractedKeywords, j.requiredSkills AS requiredSkills, " +
+            "j.preferredSkills AS preferredSkills, j.updatedAt AS updatedAt FROM Job j " +
+            "WHERE j.updatedAt > :since OR (j.updatedAt = :since AND j.id > :afterId) ORDER BY j.updatedAt, j.id")
+    List<JobSkills> findSkillsUpdatedAfter(@Param("since") LocalDateTime since,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
 
-    List<Job> findByCompanyContainingIgnoreCase(String company);
+    @Query("SELECT j FROM Job j WHERE j.minhashSignature IS NULL ORDER BY j.id")
+    List<Job> findWithoutSignature(Pageable pageable);
 
-    @Query("SELECT j FROM Job j WHERE " +
-            "LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(j.company) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Job> searchByKeyword(@Param("keyword") String keyword);
+    // Bulk update so backfilling signatures does not touch updatedAt
+    @Modifying
+    @Query("UPDATE Job j SET j.minhashSignature = :signature WHERE j.id = :id")
+    int updateSignature(@Param("id") Long id, @Param("signature") byte[] signature);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.atsoptimizer.jobanalyzer.repository;
+
+/**
+ * Projection of a full-text search match: the job id and its ts_rank score
+ */
+public interface JobSearchHit {
+
+    Long getId();
+
+    Float getScore();
+}
\ No newline at end of file
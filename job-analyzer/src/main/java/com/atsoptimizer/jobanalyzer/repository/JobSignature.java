@@ -0,0 +1,15 @@
+package com.atsoptimizer.jobanalyzer.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection used to load MinHash signatures without the posting text
+ */
+public interface JobSignature {
+
+    Long getId();
+
+    byte[] getMinhashSignature();
+
+    LocalDateTime getUpdatedAt();
+}
\ No newline at end of file
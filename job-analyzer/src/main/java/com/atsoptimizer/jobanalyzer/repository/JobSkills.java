@@ -0,0 +1,19 @@
+package com.atsoptimizer.jobanalyzer.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection used to load extracted skills without the posting text
+ */
+public interface JobSkills {
+
+    Long getId();
+
+    String getExtractedKeywords();
+
+    String getRequiredSkills();
+
+    String getPreferredSkills();
+
+    LocalDateTime getUpdatedAt();
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.atsoptimizer.jobanalyzer.repository;
+
+/**
+ * Projection of a distinct column value and the number of jobs that have it
+ */
+public interface ValueCount {
+
+    String getValue();
+
+    Long getJobs();
+}
\ No newline at end of file
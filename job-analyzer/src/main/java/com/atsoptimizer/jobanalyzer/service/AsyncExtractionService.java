@@ -0,0 +1,316 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.dto.JobResponse;
+import com.atsoptimizer.jobanalyzer.model.ExtractionStatus;
+import com.atsoptimizer.jobanalyzer.model.Job;
+import com.atsoptimizer.jobanalyzer.repository.JobRepository;
+import com.atsoptimizer.jobanalyzer.service.extraction.JobAnalysis;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background keyword extraction for jobs saved with a PENDING status.
+ *
+ * Each job gets its own virtual thread when the JVM has them, with a semaphore bounding how many
+ * extract at once and another bounding how many are admitted; without virtual threads a fixed
+ * platform pool runs the same admitted work. A job that is not admitted, or whose extraction was
+ * lost to a restart, stays PENDING and is picked up again by the periodic recovery sweep, which
+ * claims each stale job with a conditional update so only one replica resubmits it. Clients
+ * either poll the job or subscribe to a server-sent event that fires when extraction finishes
+ * on any replica: finishing invalidates the job's cache entry, and that invalidation reaches
+ * every replica over the cache's pub/sub channel. A subscription that times out, for example
+ * because the message was lost, still gets one event with the job's current status.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncExtractionService {
+
+    private static final String THREAD_NAME_PREFIX = "async-extraction-";
+    private static final String EXTRACTION_EVENT = "extraction";
+
+    private final JobService jobService;
+    private final JobRepository jobRepository;
+    private final CacheService cacheService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${extraction.async.threads}")
+    private int threads;
+
+    @Value("${extraction.async.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${extraction.async.virtual-threads}")
+    private boolean virtualThreads;
+
+    @Value("${extraction.async.stale-after-ms}")
+    private long staleAfterMs;
+
+    @Value("${extraction.async.recovery-batch-size}")
+    private int recoveryBatchSize;
+
+    @Value("${extraction.async.sse-timeout-ms}")
+    private long sseTimeoutMs;
+
+    private ExecutorService executor;
+
+    // Permits for jobs running, and for jobs running or waiting to run
+    private Semaphore running;
+    private Semaphore admitted;
+
+    // Jobs queued or running here, so the recovery sweep does not submit them twice
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        running = new Semaphore(poolSize);
+        admitted = new Semaphore(poolSize + queueCapacity);
+        executor = createExecutor(poolSize);
+
+        int admissions = poolSize + queueCapacity;
+        Gauge.builder("jobs.extraction.async.queued", this,
+                        service -> (admissions - admitted.availablePermits())
+                                - (poolSize - running.availablePermits()))
+                .register(meterRegistry);
+        Gauge.builder("jobs.extraction.async.in_flight", inFlight, Set::size)
+                .register(meterRegistry);
+
+        cacheService.addJobInvalidationListener(this::onJobInvalidated);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Queued jobs stay PENDING and are recovered on the next start
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue extraction once the transaction that saved the job has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExtractionRequested(ExtractionRequestedEvent event) {
+        submit(event.getJobId());
+    }
+
+    /**
+     * Resubmit jobs that have been PENDING for too long, e.g. after a restart or a full queue.
+     * Claiming a job bumps its updatedAt, so sweeps on other replicas skip it until it goes
+     * stale again.
+     */
+    @Scheduled(fixedDelayString = "${extraction.async.recovery-interval-ms}",
+            initialDelayString = "${extraction.async.recovery-interval-ms}")
+    public void recoverPending() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime before = now.minus(staleAfterMs, ChronoUnit.MILLIS);
+        List<Long> jobIds = jobRepository.findIdsByExtractionStatusUpdatedBefore(
+                ExtractionStatus.PENDING, before, PageRequest.of(0, recoveryBatchSize));
+        int recovered = 0;
+        for (Long jobId : jobIds) {
+            if (!inFlight.contains(jobId)
+                    && jobRepository.claimStale(jobId, ExtractionStatus.PENDING, before, now) == 1) {
+                submit(jobId);
+                recovered++;
+            }
+        }
+        if (recovered > 0) {
+            log.info("Recovering {} jobs with pending extraction", recovered);
+        }
+    }
+
+    /**
+     * Stream a single event with the job once its extraction is no longer pending
+     */
+    public SseEmitter subscribe(Long jobId) {
+        JobResponse job = jobService.getJob(jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        if (!ExtractionStatus.PENDING.name().equals(job.getExtractionStatus())) {
+            send(emitter, job);
+            return emitter;
+        }
+
+        subscribers.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> unsubscribe(jobId, emitter));
+        emitter.onTimeout(() -> {
+            unsubscribe(jobId, emitter);
+            sendCurrent(jobId, emitter);
+        });
+        emitter.onError(error -> unsubscribe(jobId, emitter));
+
+        // Extraction may have finished between the status check and registering the emitter
+        boolean pending = jobRepository.findById(jobId)
+                .map(current -> current.getExtractionStatus() == ExtractionStatus.PENDING)
+                .orElse(false);
+        if (!pending) {
+            notifySubscribers(jobId);
+        }
+        return emitter;
+    }
+
+    private void submit(Long jobId) {
+        if (!inFlight.add(jobId)) {
+            return;
+        }
+        if (!admitted.tryAcquire()) {
+            inFlight.remove(jobId);
+            log.warn("Extraction queue full, job {} stays pending until recovery", jobId);
+            return;
+        }
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (RejectedExecutionException e) {
+            admitted.release();
+            inFlight.remove(jobId);
+            log.warn("Extraction executor shut down, job {} stays pending until recovery", jobId);
+        }
+    }
+
+    private void run(Long jobId) {
+        try {
+            running.acquire();
+        } catch (InterruptedException e) {
+            // Shutting down; the job stays PENDING
+            Thread.currentThread().interrupt();
+            admitted.release();
+            inFlight.remove(jobId);
+            return;
+        }
+        try {
+            extract(jobId);
+        } finally {
+            running.release();
+            admitted.release();
+        }
+    }
+
+    private void extract(Long jobId) {
+        try {
+            Job job = jobRepository.findById(jobId).orElse(null);
+            if (job == null || job.getExtractionStatus() != ExtractionStatus.PENDING) {
+                return;
+            }
+            JobAnalysis analysis = jobService.analyze(job.getDescription(), job.getRequirements());
+            if (jobService.completeExtraction(jobId, job.getDescription(), job.getRequirements(), analysis)) {
+                log.debug("Extraction completed for job {}", jobId);
+            }
+        } catch (Exception e) {
+            log.error("Error extracting keywords for job {}", jobId, e);
+            try {
+                jobService.failExtraction(jobId);
+            } catch (Exception statusError) {
+                log.error("Error marking extraction failed for job {}", jobId, statusError);
+            }
+        } finally {
+            inFlight.remove(jobId);
+            notifySubscribers(jobId);
+        }
+    }
+
+    /**
+     * A job changed on some replica; tell this replica's subscribers if its extraction is over
+     */
+    private void onJobInvalidated(Long jobId) {
+        if (!subscribers.containsKey(jobId)) {
+            return;
+        }
+        boolean pending = jobRepository.findById(jobId)
+                .map(current -> current.getExtractionStatus() == ExtractionStatus.PENDING)
+                .orElse(false);
+        if (!pending) {
+            notifySubscribers(jobId);
+        }
+    }
+
+    private void notifySubscribers(Long jobId) {
+        List<SseEmitter> emitters = subscribers.remove(jobId);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        try {
+            JobResponse job = jobService.getJob(jobId);
+            emitters.forEach(emitter -> send(emitter, job));
+        } catch (Exception e) {
+            log.warn("Error notifying subscribers of job {}", jobId, e);
+            emitters.forEach(SseEmitter::complete);
+        }
+    }
+
+    /**
+     * Send the job as it is now, pending or not, and end the stream
+     */
+    private void sendCurrent(Long jobId, SseEmitter emitter) {
+        try {
+            send(emitter, jobService.getJob(jobId));
+        } catch (Exception e) {
+            log.debug("Error sending current status of job {}", jobId, e);
+            emitter.complete();
+        }
+    }
+
+    private void unsubscribe(Long jobId, SseEmitter emitter) {
+        subscribers.computeIfPresent(jobId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private void send(SseEmitter emitter, JobResponse job) {
+        try {
+            emitter.send(SseEmitter.event().name(EXTRACTION_EVENT).data(job));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // The client went away
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * A virtual thread per job on Java 21+, looked up reflectively since the service targets
+     * Java 17. Pooling virtual threads would only cap them twice; the semaphores do the bounding.
+     */
+    private ExecutorService createExecutor(int poolSize) {
+        if (virtualThreads) {
+            try {
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                builder = builderType.getMethod("name", String.class, long.class)
+                        .invoke(builder, THREAD_NAME_PREFIX, 1L);
+                ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+                ExecutorService perTask = (ExecutorService) Executors.class
+                        .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                        .invoke(null, factory);
+                log.info("Async extraction running on virtual threads");
+                return perTask;
+            } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+                log.info("Virtual threads not available, async extraction using platform threads");
+            }
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.exception.InvalidRequestException;
+import com.atsoptimizer.jobanalyzer.model.Job;
+import com.atsoptimizer.jobanalyzer.repository.JobRepository;
+import com.atsoptimizer.jobanalyzer.repository.ValueCount;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead suggestions for job titles and companies, most frequent first.
+ *
+ * The most frequent values of each field are held in an in-memory prefix trie, so common
+ * prefixes are answered without a query. Job writes adjust the counts in place; the periodic
+ * rebuild picks up writes made on other replicas. Prefixes the trie cannot answer fall back to
+ * a substring query on the pg_trgm indexes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    public static final String TITLE = "title";
+    public static final String COMPANY = "company";
+
+    private static final String AUTOCOMPLETE_CACHE = "autocomplete";
+
+    private final JobRepository jobRepository;
+    private final JobMetrics jobMetrics;
+
+    @Value("${autocomplete.cached-values}")
+    private int cachedValues;
+
+    @Value("${autocomplete.max-prefix-length}")
+    private int maxPrefixLength;
+
+    @Value("${autocomplete.suggestions}")
+    private int maxSuggestions;
+
+    private volatile SuggestionTrie titles;
+    private volatile SuggestionTrie companies;
+
+    @PostConstruct
+    public void init() {
+        titles = new SuggestionTrie(maxPrefixLength, maxSuggestions);
+        companies = new SuggestionTrie(maxPrefixLength, maxSuggestions);
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Error loading autocomplete values", e);
+        }
+    }
+
+    /**
+     * Values of a field containing the query, those starting with it first
+     */
+    public List<String> suggest(String field, String query, Integer limit) {
+        return jobMetrics.recordOperation("autocomplete", () -> {
+            boolean title = isTitle(field);
+            int count = limit != null ? limit : maxSuggestions;
+            if (count < 1 || count > maxSuggestions) {
+                throw new InvalidRequestException("Limit must be between 1 and " + maxSuggestions);
+            }
+            String prefix = SuggestionTrie.normalize(query);
+            if (prefix.isEmpty()) {
+                return List.of();
+            }
+
+            List<String> cached = (title ? titles : companies).suggest(prefix, count);
+            if (cached != null) {
+                jobMetrics.recordCacheLookup(AUTOCOMPLETE_CACHE, JobMetrics.HIT);
+                return cached;
+            }
+            jobMetrics.recordCacheLookup(AUTOCOMPLETE_CACHE, JobMetrics.MISS);
+
+            String escaped = escapeLike(prefix);
+            List<ValueCount> matches = title
+                    ? jobRepository.findTitlesMatching("%" + escaped + "%", escaped + "%", count)
+                    : jobRepository.findCompaniesMatching("%" + escaped + "%", escaped + "%", count);
+            return matches.stream().map(ValueCount::getValue).collect(Collectors.toList());
+        });
+    }
+
+    /**
+     * Count the title and company of a created job
+     */
+    public void recordAdded(Job job) {
+        titles.adjust(job.getTitle(), 1);
+        companies.adjust(job.getCompany(), 1);
+    }
+
+    /**
+     * Uncount the title and company of a deleted job
+     */
+    public void recordRemoved(Job job) {
+        titles.adjust(job.getTitle(), -1);
+        companies.adjust(job.getCompany(), -1);
+    }
+
+    /**
+     * Move an updated job's counts to its new title and company
+     */
+    public void recordUpdated(String oldTitle, String oldCompany, Job job) {
+        if (!Objects.equals(oldTitle, job.getTitle())) {
+            titles.adjust(oldTitle, -1);
+            titles.adjust(job.getTitle(), 1);
+        }
+        if (!Objects.equals(oldCompany, job.getCompany())) {
+            companies.adjust(oldCompany, -1);
+            companies.adjust(job.getCompany(), 1);
+        }
+    }
+
+    /**
+     * Reload the most frequent values from the database
+     */
+    @Scheduled(fixedDelayString = "${autocomplete.rebuild-interval-ms}",
+            initialDelayString = "${autocomplete.rebuild-interval-ms}")
+    public void rebuild() {
+        PageRequest top = PageRequest.of(0, cachedValues);
+        List<ValueCount> topTitles = jobRepository.findTopTitles(top);
+        List<ValueCount> topCompanies = jobRepository.findTopCompanies(top);
+        titles = load(topTitles);
+        companies = load(topCompanies);
+        log.debug("Loaded {} titles and {} companies for autocomplete", topTitles.size(), topCompanies.size());
+    }
+
+    private SuggestionTrie load(List<ValueCount> values) {
+        SuggestionTrie trie = new SuggestionTrie(maxPrefixLength, maxSuggestions);
+        values.forEach(value -> trie.adjust(value.getValue(), value.getJobs()));
+        return trie;
+    }
+
+    private static boolean isTitle(String field) {
+        if (TITLE.equalsIgnoreCase(field)) {
+            return true;
+        }
+        if (COMPANY.equalsIgnoreCase(field)) {
+            return false;
+        }
+        throw new InvalidRequestException("Field must be " + TITLE + " or " + COMPANY);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
\ No newline at end of file
@@ -1,26 +1,197 @@
 package com.atsoptimizer.jobanalyzer.service;
 
 import com.atsoptimizer.jobanalyzer.dto.JobResponse;
+import com.atsoptimizer.jobanalyzer.service.extraction.JobAnalysis;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+/**
+ * Redis cache for job responses, user job lists and extraction results.
+ *
+ * Job responses and user job lists are also kept in a small in-process tier, so a repeated
+ * read skips the Redis round trip and deserialisation. Invalidations delete the Redis key and
+ * publish it on a pub/sub channel that every replica listens to, evicting their local copies.
+ * The local tier's short TTL bounds staleness if a message is lost.
+ *
+ * Every Redis key carries the current namespace generation, so clearing the cache is a single
+ * INCR of the generation counter: readers switch to an empty namespace at once and the old keys
+ * expire on their own TTL, or are unlinked by a background SCAN in small batches. Other
+ * services sharing the Redis instance are never touched.
+ *
+ * Job loads through {@link #getJob} are coalesced: one caller per job id and JVM runs the
+ * loader while the others wait for its result, and a short Redis lock makes the other replicas
+ * poll the cache briefly instead of loading too. A replica stops polling after
+ * cache.load-lock.max-wait-ms, about two job loads, and loads the job itself, so a slow or lost
+ * load elsewhere costs a request thread a short delay rather than the whole lock TTL. Hot
+ * entries are refreshed before they expire with probabilistic early expiration (XFetch),
+ * weighted by how long a load takes.
+ *
+ * Job ids that were not found are remembered with a short-lived tombstone in Redis only, so a
+ * job created on another replica is never hidden by a stale local copy.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CacheService {
 
+    // Invalidation message that evicts every local entry and re-reads the generation
+    private static final String INVALIDATE_ALL = "*";
+
+    private static final String GENERATION_KEY = "cache:generation";
+    private static final String NAMESPACE_PREFIX = "cache:v";
+    private static final String LOCK_PREFIX = "lock:";
+
+    // Cached in place of a job that does not exist
+    private static final String MISSING_JOB = "missing";
+
+    // Deletes the lock only if this caller still holds it
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final JobMetrics jobMetrics;
 
     @Value("${cache.ttl}")
     private long cacheTtl;
 
+    @Value("${cache.extraction.ttl}")
+    private long extractionCacheTtl;
+
+    @Value("${cache.local.max-size}")
+    private long localMaxSize;
+
+    @Value("${cache.local.ttl}")
+    private long localTtl;
+
+    @Value("${cache.invalidation-channel}")
+    private String invalidationChannel;
+
+    @Value("${cache.purge-batch-size}")
+    private int purgeBatchSize;
+
+    @Value("${cache.load-lock.ttl-ms}")
+    private long loadLockTtlMs;
+
+    @Value("${cache.load-lock.poll-ms}")
+    private long loadLockPollMs;
+
+    @Value("${cache.load-lock.max-wait-ms}")
+    private long loadLockMaxWaitMs;
+
+    @Value("${cache.early-refresh-beta}")
+    private double earlyRefreshBeta;
+
+    @Value("${cache.missing-job-ttl}")
+    private long missingJobTtl;
+
+    private Cache<String, Object> localCache;
+
+    private volatile long generation;
+
+    // Job loads running in this JVM, joined by concurrent callers for the same id
+    private final ConcurrentMap<Long, CompletableFuture<Object>> jobLoads = new ConcurrentHashMap<>();
+
+    // Moving average of job load time, the XFetch delta
+    private volatile double jobLoadMillis;
+
+    // Told the id of every job invalidated on any replica
+    private final List<Consumer<Long>> jobInvalidationListeners = new CopyOnWriteArrayList<>();
+
+    // Runs SCAN purges off the request path, one at a time
+    private final ExecutorService purgeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private static final String JOB_CACHE_PREFIX = "job:";
     private static final String USER_JOBS_CACHE_PREFIX = "user_jobs:";
+    private static final String EXTRACTION_CACHE_PREFIX = "extraction:";
+
+    private static final String JOB_CACHE = "job";
+    private static final String EXTRACTION_CACHE = "extraction";
+    private static final String USER_JOBS_CACHE = "user_jobs";
+    private static final String LOCAL_CACHE = "local";
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtl))
+                .build();
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(invalidationChannel));
+        refreshGeneration();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        purgeExecutor.shutdownNow();
+    }
+
+    /**
+     * Pick up a generation bumped by another replica, in case its pub/sub message was lost
+     */
+    @Scheduled(fixedDelayString = "${cache.generation-refresh-ms}",
+            initialDelayString = "${cache.generation-refresh-ms}")
+    public void refreshGeneration() {
+        try {
+            String stored = jobMetrics.recordRedis("get", () -> stringRedisTemplate.opsForValue().get(GENERATION_KEY));
+            long current = stored != null ? Long.parseLong(stored) : 0L;
+            if (current != generation) {
+                generation = current;
+                localCache.invalidateAll();
+                log.info("Cache namespace generation is now {}", current);
+            }
+        } catch (Exception e) {
+            log.error("Error reading cache generation", e);
+        }
+    }
 
     /**
      * Cache a job response
@@ -28,7 +199,8 @@ public class CacheService {
     public void cacheJob(Long jobId, JobResponse jobResponse) {
         try {
             String key = JOB_CACHE_PREFIX + jobId;
-            redisTemplate.opsForValue().set(key, jobResponse, cacheTtl, TimeUnit.SECONDS);
+            localCache.put(key, jobResponse);
+            set(key, jobResponse, cacheTtl);
             log.debug("Cached job with id: {}", jobId);
         } catch (Exception e) {
             log.error("Error caching job: {}", jobId, e);
@@ -41,24 +213,243 @@ public class CacheService {
     public JobResponse getCachedJob(Long jobId) {
         try {
             String key = JOB_CACHE_PREFIX + jobId;
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = getLocal(key);
+            if (cached instanceof JobResponse) {
+                return (JobResponse) cached;
+            }
+            cached = get(key);
             if (cached instanceof JobResponse) {
                 log.debug("Cache hit for job: {}", jobId);
+                jobMetrics.recordCacheLookup(JOB_CACHE, JobMetrics.HIT);
+                localCache.put(key, cached);
                 return (JobResponse) cached;
             }
+            jobMetrics.recordCacheLookup(JOB_CACHE, JobMetrics.MISS);
+        } catch (Exception e) {
+            log.error("Error retrieving cached job: {}", jobId, e);
+            jobMetrics.recordCacheLookup(JOB_CACHE, JobMetrics.ERROR);
+        }
+        return null;
+    }
+
+    /**
+     * Remember for a short while that a job does not exist
+     */
+    public void cacheMissingJob(Long jobId) {
+        try {
+            set(JOB_CACHE_PREFIX + jobId, MISSING_JOB, missingJobTtl);
+            log.debug("Cached missing job: {}", jobId);
+        } catch (Exception e) {
+            log.error("Error caching missing job: {}", jobId, e);
+        }
+    }
+
+    /**
+     * Drop the tombstones of newly created jobs, in one pipeline
+     */
+    public void clearMissingJobs(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> keys = jobIds.stream().map(jobId -> redisKey(JOB_CACHE_PREFIX + jobId)).toList();
+            jobMetrics.recordRedis("delete", () -> redisTemplate.delete(keys));
+        } catch (Exception e) {
+            log.error("Error clearing {} missing job tombstones", jobIds.size(), e);
+        }
+    }
+
+    /**
+     * Get a job from the cache, or load and cache it with at most one concurrent loader per id.
+     * A hit close to expiry may be reloaded early by one caller while the others keep using it.
+     * Returns null if the job does not exist, which the loader signals by returning null.
+     */
+    public JobResponse getJob(Long jobId, Supplier<JobResponse> loader) {
+        String key = JOB_CACHE_PREFIX + jobId;
+        Object local = getLocal(key);
+        if (local instanceof JobResponse) {
+            return (JobResponse) local;
+        }
+
+        Object cached = null;
+        long ttlMillis = -1;
+        try {
+            List<Object> results = jobMetrics.recordRedis("get_pttl", () -> redisTemplate.executePipelined(
+                    new SessionCallback<Object>() {
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public Object execute(RedisOperations operations) throws DataAccessException {
+                            operations.opsForValue().get(redisKey(key));
+                            operations.getExpire(redisKey(key), TimeUnit.MILLISECONDS);
+                            return null;
+                        }
+                    }));
+            if (results.get(0) instanceof JobResponse || MISSING_JOB.equals(results.get(0))) {
+                cached = results.get(0);
+                ttlMillis = results.get(1) instanceof Long ? (Long) results.get(1) : -1;
+            }
         } catch (Exception e) {
             log.error("Error retrieving cached job: {}", jobId, e);
+            jobMetrics.recordCacheLookup(JOB_CACHE, JobMetrics.ERROR);
+        }
+
+        if (cached == null) {
+            jobMetrics.recordCacheLookup(JOB_CACHE, JobMetrics.MISS);
+            return asJob(loadJob(jobId, loader, true));
+        }
+        if (MISSING_JOB.equals(cached)) {
+            jobMetrics.recordCacheLookup(JOB_CACHE, JobMetrics.TOMBSTONE);
+            return null;
+        }
+        jobMetrics.recordCacheLookup(JOB_CACHE, JobMetrics.HIT);
+        localCache.put(key, cached);
+        if (!expiresEarly(ttlMillis)) {
+            return (JobResponse) cached;
+        }
+
+        jobMetrics.recordCacheLookup(JOB_CACHE, JobMetrics.EARLY_REFRESH);
+        log.debug("Refreshing job {} early, {} ms before expiry", jobId, ttlMillis);
+        Object refreshed = loadJob(jobId, loader, false);
+        return asJob(refreshed != null ? refreshed : cached);
+    }
+
+    private static JobResponse asJob(Object loaded) {
+        return loaded instanceof JobResponse ? (JobResponse) loaded : null;
+    }
+
+    /**
+     * Get cached jobs in one MGET; ids that are not cached are missing from the result
+     */
+    public Map<Long, JobResponse> getCachedJobs(List<Long> jobIds) {
+        Map<Long, JobResponse> found = new HashMap<>();
+        List<Long> remoteIds = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        for (Long jobId : jobIds) {
+            Object local = localCache.getIfPresent(JOB_CACHE_PREFIX + jobId);
+            if (local instanceof JobResponse) {
+                found.put(jobId, (JobResponse) local);
+            } else {
+                remoteIds.add(jobId);
+                keys.add(JOB_CACHE_PREFIX + jobId);
+            }
+        }
+        jobMetrics.recordCacheLookups(LOCAL_CACHE, JobMetrics.HIT, found.size());
+        jobMetrics.recordCacheLookups(LOCAL_CACHE, JobMetrics.MISS, remoteIds.size());
+        if (remoteIds.isEmpty()) {
+            return found;
+        }
+        try {
+            List<String> redisKeys = keys.stream().map(this::redisKey).toList();
+            List<Object> values = jobMetrics.recordRedis("mget", () -> redisTemplate.opsForValue().multiGet(redisKeys));
+            int hits = 0;
+            for (int i = 0; i < remoteIds.size() && values != null && i < values.size(); i++) {
+                if (values.get(i) instanceof JobResponse) {
+                    found.put(remoteIds.get(i), (JobResponse) values.get(i));
+                    localCache.put(keys.get(i), values.get(i));
+                    hits++;
+                }
+            }
+            jobMetrics.recordCacheLookups(JOB_CACHE, JobMetrics.HIT, hits);
+            jobMetrics.recordCacheLookups(JOB_CACHE, JobMetrics.MISS, remoteIds.size() - hits);
+            log.debug("Cache hit for {} of {} jobs", found.size(), jobIds.size());
+        } catch (Exception e) {
+            log.error("Error retrieving {} cached jobs", jobIds.size(), e);
+            jobMetrics.recordCacheLookup(JOB_CACHE, JobMetrics.ERROR);
+        }
+        return found;
+    }
+
+    /**
+     * Cache several job responses in one pipelined round trip
+     */
+    public void cacheJobs(Collection<JobResponse> jobResponses) {
+        if (jobResponses.isEmpty()) {
+            return;
+        }
+        for (JobResponse jobResponse : jobResponses) {
+            localCache.put(JOB_CACHE_PREFIX + jobResponse.getId(), jobResponse);
+        }
+        try {
+            jobMetrics.recordRedis("pipelined_set", () -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (JobResponse jobResponse : jobResponses) {
+                        operations.opsForValue().set(redisKey(JOB_CACHE_PREFIX + jobResponse.getId()), jobResponse,
+                                cacheTtl, TimeUnit.SECONDS);
+                    }
+                    return null;
+                }
+            }));
+            log.debug("Cached {} jobs", jobResponses.size());
+        } catch (Exception e) {
+            log.error("Error caching {} jobs", jobResponses.size(), e);
+        }
+    }
+
+    /**
+     * Cache the ids of a user's jobs, in listing order
+     */
+    public void cacheUserJobIds(String userId, List<Long> jobIds) {
+        try {
+            String key = USER_JOBS_CACHE_PREFIX + userId;
+            localCache.put(key, List.copyOf(jobIds));
+            set(key, new ArrayList<>(jobIds), cacheTtl);
+            log.debug("Cached {} job ids for user: {}", jobIds.size(), userId);
+        } catch (Exception e) {
+            log.error("Error caching job ids for user: {}", userId, e);
+        }
+    }
+
+    /**
+     * Get the cached ids of a user's jobs, or null if they are not cached
+     */
+    public List<Long> getCachedUserJobIds(String userId) {
+        try {
+            String key = USER_JOBS_CACHE_PREFIX + userId;
+            Object local = getLocal(key);
+            if (local instanceof List) {
+                @SuppressWarnings("unchecked")
+                List<Long> jobIds = (List<Long>) local;
+                return jobIds;
+            }
+            Object cached = get(key);
+            if (cached instanceof List) {
+                // Small ids come back from JSON as integers
+                List<Long> jobIds = new ArrayList<>();
+                for (Object jobId : (List<?>) cached) {
+                    jobIds.add(((Number) jobId).longValue());
+                }
+                log.debug("Cache hit for user jobs: {}", userId);
+                jobMetrics.recordCacheLookup(USER_JOBS_CACHE, JobMetrics.HIT);
+                localCache.put(key, List.copyOf(jobIds));
+                return jobIds;
+            }
+            jobMetrics.recordCacheLookup(USER_JOBS_CACHE, JobMetrics.MISS);
+        } catch (Exception e) {
+            log.error("Error retrieving cached job ids for user: {}", userId, e);
+            jobMetrics.recordCacheLookup(USER_JOBS_CACHE, JobMetrics.ERROR);
         }
         return null;
     }
 
+    /**
+     * Be told the id of every job invalidated on any replica, e.g. when its extraction finishes.
+     * Listeners run on the pub/sub listener thread.
+     */
+    public void addJobInvalidationListener(Consumer<Long> listener) {
+        jobInvalidationListeners.add(listener);
+    }
+
     /**
      * Invalidate job cache
      */
     public void invalidateJob(Long jobId) {
         try {
             String key = JOB_CACHE_PREFIX + jobId;
-            redisTemplate.delete(key);
+            localCache.invalidate(key);
+            delete(key);
+            publishInvalidation(key);
             log.debug("Invalidated cache for job: {}", jobId);
         } catch (Exception e) {
             log.error("Error invalidating cache for job: {}", jobId, e);
@@ -71,7 +462,9 @@ public class CacheService {
     public void invalidateUserJobs(String userId) {
         try {
             String key = USER_JOBS_CACHE_PREFIX + userId;
-            redisTemplate.delete(key);
+            localCache.invalidate(key);
+            delete(key);
+            publishInvalidation(key);
             log.debug("Invalidated cache for user jobs: {}", userId);
         } catch (Exception e) {
             log.error("Error invalidating user jobs cache: {}", userId, e);
@@ -79,14 +472,334 @@ public class CacheService {
     }
 
     /**
-     * Clear all cache
+     * Cache an extraction result under the content hash of its input
+     */
+    public void cacheAnalysis(String contentHash, JobAnalysis analysis) {
+        try {
+            String key = EXTRACTION_CACHE_PREFIX + contentHash;
+            set(key, analysis, extractionCacheTtl);
+            log.debug("Cached extraction result: {}", contentHash);
+        } catch (Exception e) {
+            log.error("Error caching extraction result: {}", contentHash, e);
+        }
+    }
+
+    /**
+     * Get cached extraction result
+     */
+    public JobAnalysis getCachedAnalysis(String contentHash) {
+        try {
+            String key = EXTRACTION_CACHE_PREFIX + contentHash;
+            Object cached = get(key);
+            if (cached instanceof JobAnalysis) {
+                log.debug("Cache hit for extraction result: {}", contentHash);
+                jobMetrics.recordCacheLookup(EXTRACTION_CACHE, JobMetrics.HIT);
+                return (JobAnalysis) cached;
+            }
+            jobMetrics.recordCacheLookup(EXTRACTION_CACHE, JobMetrics.MISS);
+        } catch (Exception e) {
+            log.error("Error retrieving cached extraction result: {}", contentHash, e);
+            jobMetrics.recordCacheLookup(EXTRACTION_CACHE, JobMetrics.ERROR);
+        }
+        return null;
+    }
+
+    /**
+     * Clear all cache by moving to a new namespace generation; O(1) and safe under load.
+     * Keys of older generations are unlinked in the background.
      */
     public void clearAllCache() {
         try {
-            redisTemplate.getConnectionFactory().getConnection().flushAll();
-            log.info("Cleared all cache");
+            Long next = jobMetrics.recordRedis("incr", () -> stringRedisTemplate.opsForValue().increment(GENERATION_KEY));
+            generation = next != null ? next : generation + 1;
+            localCache.invalidateAll();
+            publishInvalidation(INVALIDATE_ALL);
+            log.info("Cleared all cache, namespace generation is now {}", generation);
+            purgeAsync(NAMESPACE_PREFIX + "*", key -> generationOf(key) < generation);
         } catch (Exception e) {
             log.error("Error clearing all cache", e);
         }
     }
+
+    /**
+     * Unlink keys of the current generation matching a pattern such as "extraction:*",
+     * in the background
+     */
+    public void purge(String keyPattern) {
+        String prefix = NAMESPACE_PREFIX + generation + ":";
+        purgeAsync(prefix + keyPattern, key -> key.startsWith(prefix));
+        publishInvalidation(INVALIDATE_ALL);
+    }
+
+    private void purgeAsync(String match, Predicate<String> selected) {
+        try {
+            purgeExecutor.execute(() -> {
+                try {
+                    long purged = scanAndUnlink(match, selected);
+                    log.info("Purged {} cache keys matching {}", purged, match);
+                } catch (Exception e) {
+                    log.error("Error purging cache keys matching {}", match, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Cache purge not scheduled, shutting down");
+        }
+    }
+
+    /**
+     * SCAN for matching keys and UNLINK the selected ones in batches, so Redis is never blocked
+     */
+    private long scanAndUnlink(String match, Predicate<String> selected) {
+        Long purged = stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
+            long count = 0;
+            List<byte[]> batch = new ArrayList<>(purgeBatchSize);
+            ScanOptions options = ScanOptions.scanOptions().match(match).count(purgeBatchSize).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    byte[] key = cursor.next();
+                    if (!selected.test(new String(key, StandardCharsets.UTF_8))) {
+                        continue;
+                    }
+                    batch.add(key);
+                    if (batch.size() >= purgeBatchSize) {
+                        count += unlink(connection, batch);
+                    }
+                }
+            }
+            return count + unlink(connection, batch);
+        });
+        return purged != null ? purged : 0L;
+    }
+
+    private static long unlink(RedisConnection connection, List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return 0L;
+        }
+        Long unlinked = connection.keyCommands().unlink(keys.toArray(new byte[0][]));
+        keys.clear();
+        return unlinked != null ? unlinked : 0L;
+    }
+
+    /**
+     * Generation of a namespaced Redis key, or the current one if it cannot be parsed
+     */
+    private long generationOf(String redisKey) {
+        int end = redisKey.indexOf(':', NAMESPACE_PREFIX.length());
+        if (end < 0) {
+            return generation;
+        }
+        try {
+            return Long.parseLong(redisKey.substring(NAMESPACE_PREFIX.length(), end));
+        } catch (NumberFormatException e) {
+            return generation;
+        }
+    }
+
+    /**
+     * Redis key of a cache key in the current namespace generation
+     */
+    private String redisKey(String key) {
+        return NAMESPACE_PREFIX + generation + ":" + key;
+    }
+
+    /**
+     * Run the loader unless another caller in this JVM already is. Yields the job or the
+     * missing-job marker. Without waitForOthers, used for early refreshes, returns null instead
+     * of waiting on a load running elsewhere.
+     */
+    private Object loadJob(Long jobId, Supplier<JobResponse> loader, boolean waitForOthers) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = jobLoads.putIfAbsent(jobId, load);
+        if (running != null) {
+            if (!waitForOthers) {
+                return null;
+            }
+            jobMetrics.recordCacheLookup(JOB_CACHE, JobMetrics.COALESCED);
+            Object response = await(running);
+            // The running load was an early refresh that yielded to another replica
+            return response != null ? response : loadJob(jobId, loader, true);
+        }
+
+        try {
+            Object response = loadJobLocked(jobId, loader, waitForOthers);
+            load.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            jobLoads.remove(jobId, load);
+        }
+    }
+
+    /**
+     * Run the loader under a short Redis lock, so other replicas wait for this load to be cached.
+     * If another replica holds the lock, poll the cache for a short while and then load anyway.
+     */
+    private Object loadJobLocked(Long jobId, Supplier<JobResponse> loader, boolean waitForOthers) {
+        String key = JOB_CACHE_PREFIX + jobId;
+        String lockKey = redisKey(LOCK_PREFIX + key);
+        String token = UUID.randomUUID().toString();
+        boolean locked = tryLock(lockKey, token);
+        if (!locked) {
+            if (!waitForOthers) {
+                return null;
+            }
+            jobMetrics.recordCacheLookup(JOB_CACHE, JobMetrics.COALESCED);
+            Object loaded = awaitCachedJob(key);
+            if (loaded != null) {
+                return loaded;
+            }
+            log.debug("Load of job {} elsewhere not cached within {} ms, loading here", jobId, loadLockMaxWaitMs);
+        }
+
+        try {
+            long start = System.nanoTime();
+            JobResponse response = loader.get();
+            recordJobLoad(System.nanoTime() - start);
+            if (response == null) {
+                cacheMissingJob(jobId);
+                return MISSING_JOB;
+            }
+            cacheJob(jobId, response);
+            return response;
+        } finally {
+            if (locked) {
+                unlock(lockKey, token);
+            }
+        }
+    }
+
+    private Object await(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Object awaitCachedJob(String key) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(loadLockMaxWaitMs);
+        try {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(loadLockPollMs)));
+                Object cached = get(key);
+                if (cached instanceof JobResponse) {
+                    localCache.put(key, cached);
+                    return cached;
+                }
+                if (MISSING_JOB.equals(cached)) {
+                    return cached;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Error polling cached job: {}", key, e);
+        }
+        return null;
+    }
+
+    /**
+     * Take the load lock; if Redis is unavailable, load anyway with only per-JVM coalescing
+     */
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            Boolean acquired = jobMetrics.recordRedis("set_nx", () -> stringRedisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, Duration.ofMillis(loadLockTtlMs)));
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.error("Error taking cache load lock: {}", lockKey, e);
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            jobMetrics.recordRedis("unlock", () -> stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token));
+        } catch (Exception e) {
+            log.error("Error releasing cache load lock: {}", lockKey, e);
+        }
+    }
+
+    /**
+     * XFetch: expire early with a probability that rises as the entry nears its TTL, scaled by
+     * the load time and beta. Entries without a TTL never expire early.
+     */
+    private boolean expiresEarly(long ttlMillis) {
+        if (ttlMillis < 0 || earlyRefreshBeta <= 0) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        return -jobLoadMillis * earlyRefreshBeta * Math.log(random) >= ttlMillis;
+    }
+
+    private void recordJobLoad(long nanos) {
+        double millis = nanos / 1_000_000.0;
+        double average = jobLoadMillis;
+        jobLoadMillis = average == 0 ? millis : average * 0.8 + millis * 0.2;
+    }
+
+    /**
+     * Read the in-process tier, counting the lookup
+     */
+    private Object getLocal(String key) {
+        Object cached = localCache.getIfPresent(key);
+        jobMetrics.recordCacheLookup(LOCAL_CACHE, cached != null ? JobMetrics.HIT : JobMetrics.MISS);
+        return cached;
+    }
+
+    /**
+     * Tell every replica, this one included, to drop its local copy of a key
+     */
+    private void publishInvalidation(String key) {
+        jobMetrics.recordRedis("publish", () -> stringRedisTemplate.convertAndSend(invalidationChannel, key));
+    }
+
+    private void evictLocal(String key) {
+        if (INVALIDATE_ALL.equals(key)) {
+            localCache.invalidateAll();
+            refreshGeneration();
+        } else {
+            localCache.invalidate(key);
+            if (key.startsWith(JOB_CACHE_PREFIX)) {
+                notifyJobInvalidated(key.substring(JOB_CACHE_PREFIX.length()));
+            }
+        }
+    }
+
+    private void notifyJobInvalidated(String jobId) {
+        long id;
+        try {
+            id = Long.parseLong(jobId);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        for (Consumer<Long> listener : jobInvalidationListeners) {
+            try {
+                listener.accept(id);
+            } catch (Exception e) {
+                log.error("Error notifying job invalidation listener for job {}", id, e);
+            }
+        }
+    }
+
+    private Object get(String key) {
+        return jobMetrics.recordRedis("get", () -> redisTemplate.opsForValue().get(redisKey(key)));
+    }
+
+    private void set(String key, Object value, long ttlSeconds) {
+        jobMetrics.recordRedis("set", () -> {
+            redisTemplate.opsForValue().set(redisKey(key), value, ttlSeconds, TimeUnit.SECONDS);
+            return null;
+        });
+    }
+
+    private void delete(String key) {
+        jobMetrics.recordRedis("delete", () -> redisTemplate.delete(redisKey(key)));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.dto.ExtractionCacheStats;
+import com.atsoptimizer.jobanalyzer.service.extraction.JobAnalysis;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Two-tier cache of extraction results keyed by content, so identical postings are analysed once.
+ *
+ * The key is a SHA-256 of the normalised description and requirements together with the
+ * taxonomy version and extraction settings, so a taxonomy reload or an NLP toggle never serves
+ * stale results. Extraction runs on the normalised text, which makes the result a pure function
+ * of the key. Results are cached before TF-IDF ranking, as ranking depends on the live corpus.
+ * Degraded results, where the NLP stage was skipped under load, are returned but not cached, so
+ * the next lookup of the same content retries the full extraction.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExtractionCacheService {
+
+    // Bump when extraction logic changes so results from older code are not reused
+    private static final String EXTRACTOR_VERSION = "3";
+
+    private final KeywordExtractionService keywordExtractionService;
+    private final SkillTaxonomyService skillTaxonomyService;
+    private final NlpPipelineService nlpPipelineService;
+    private final CacheService cacheService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.extraction.local-max-size}")
+    private long localMaxSize;
+
+    @Value("${cache.extraction.local-ttl}")
+    private long localTtl;
+
+    private Cache<String, JobAnalysis> localCache;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder missNanos = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtl))
+                .build();
+
+        registerLookupCounter(localHits, "local_hit");
+        registerLookupCounter(redisHits, "redis_hit");
+        registerLookupCounter(misses, "miss");
+        Gauge.builder("jobs.extraction.cache.size", localCache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Unranked analysis of a posting, from cache when the same content was analysed before
+     */
+    public JobAnalysis analyze(String description, String requirements) {
+        String normalizedDescription = normalize(description);
+        String normalizedRequirements = normalize(requirements);
+        String taxonomyVersion = skillTaxonomyService.current().getVersion();
+        String key = contentHash(taxonomyVersion, normalizedDescription, normalizedRequirements);
+
+        JobAnalysis cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        cached = cacheService.getCachedAnalysis(key);
+        if (cached != null) {
+            redisHits.increment();
+            localCache.put(key, cached);
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        JobAnalysis analysis = keywordExtractionService.analyze(normalizedDescription, normalizedRequirements);
+        missNanos.add(System.nanoTime() - start);
+        misses.increment();
+
+        // A taxonomy reload during extraction would store a result under the wrong version
+        if (!analysis.isDegraded() && taxonomyVersion.equals(analysis.getTaxonomyVersion())) {
+            localCache.put(key, analysis);
+            cacheService.cacheAnalysis(key, portable(analysis));
+        }
+        return analysis;
+    }
+
+    public ExtractionCacheStats getStats() {
+        long local = localHits.sum();
+        long redis = redisHits.sum();
+        long missed = misses.sum();
+        long lookups = local + redis + missed;
+        double averageNanos = missed > 0 ? (double) missNanos.sum() / missed : 0.0;
+
+        return ExtractionCacheStats.builder()
+                .localHits(local)
+                .redisHits(redis)
+                .misses(missed)
+                .hitRate(lookups > 0 ? (double) (local + redis) / lookups : 0.0)
+                .localSize(localCache.estimatedSize())
+                .averageExtractionMs(averageNanos / 1_000_000.0)
+                .extractionTimeSavedMs(Math.round((local + redis) * averageNanos / 1_000_000.0))
+                .build();
+    }
+
+    private void registerLookupCounter(LongAdder counter, String result) {
+        FunctionCounter.builder("jobs.extraction.cache.lookups", counter, LongAdder::sum)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Unify line endings and runs of spaces and tabs, and drop trailing whitespace. Line breaks
+     * are kept because section detection depends on them.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\r') {
+                if (i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                    continue;
+                }
+                c = '\n';
+            }
+            if (c == '\n') {
+                pendingSpace = false;
+                normalized.append('\n');
+            } else if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                pendingSpace = normalized.length() > 0 && normalized.charAt(normalized.length() - 1) != '\n';
+            } else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.append(c);
+            }
+        }
+        int end = normalized.length();
+        while (end > 0 && normalized.charAt(end - 1) == '\n') {
+            end--;
+        }
+        normalized.setLength(end);
+        return normalized.toString();
+    }
+
+    private String contentHash(String taxonomyVersion, String description, String requirements) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String settings = EXTRACTOR_VERSION + "|" + taxonomyVersion + "|" + nlpPipelineService.isEnabled();
+            digest.update(settings.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(description.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(requirements.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Copy into plain collections so the typed JSON written to Redis can be read back
+     */
+    private static JobAnalysis portable(JobAnalysis analysis) {
+        return analysis.toBuilder()
+                .keywords(new ArrayList<>(analysis.getKeywords()))
+                .phrases(new ArrayList<>(analysis.getPhrases()))
+                .requiredSkills(new ArrayList<>(analysis.getRequiredSkills()))
+                .preferredSkills(new ArrayList<>(analysis.getPreferredSkills()))
+                .keywordFrequency(new LinkedHashMap<>(analysis.getKeywordFrequency()))
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import lombok.Value;
+
+/**
+ * Published when a job is saved with pending extraction; handled once the transaction commits
+ */
+@Value
+public class ExtractionRequestedEvent {
+
+    Long jobId;
+}
\ No newline at end of file
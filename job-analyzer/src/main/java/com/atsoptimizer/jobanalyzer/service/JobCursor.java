@@ -0,0 +1,74 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.exception.InvalidRequestException;
+import com.atsoptimizer.jobanalyzer.model.Job;
+import com.atsoptimizer.jobanalyzer.repository.JobSearchHit;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a job listing ordered by a sort key and id, both descending: createdAt for
+ * listings, the search score for search results. Clients get it as an opaque URL-safe token
+ * and pass it back unchanged to read the next page.
+ */
+@Value
+class JobCursor {
+
+    private static final char SEPARATOR = '|';
+
+    String sortKey;
+    Long id;
+
+    /**
+     * Cursor that continues after the given job in a listing
+     */
+    static String after(Job job) {
+        return encode(job.getCreatedAt().toString(), job.getId());
+    }
+
+    /**
+     * Cursor that continues after the given search match
+     */
+    static String after(JobSearchHit hit) {
+        return encode(Float.toString(hit.getScore()), hit.getId());
+    }
+
+    static JobCursor parse(String token) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(SEPARATOR);
+            return new JobCursor(position.substring(0, separator), Long.parseLong(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw invalid(token);
+        }
+    }
+
+    LocalDateTime createdAt() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw invalid(sortKey);
+        }
+    }
+
+    float score() {
+        try {
+            return Float.parseFloat(sortKey);
+        } catch (NumberFormatException e) {
+            throw invalid(sortKey);
+        }
+    }
+
+    private static String encode(String sortKey, Long id) {
+        String position = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InvalidRequestException invalid(String token) {
+        return new InvalidRequestException("Invalid cursor: " + token);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,220 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bloom filter of existing job ids, kept as a Redis bitmap shared by every replica, so lookups
+ * of ids that never existed are answered without touching the database.
+ *
+ * Ids are added when jobs are created. Bits cannot be cleared, so deleted ids stay in the filter
+ * until the periodic rebuild, which one replica at a time writes into a side key and renames over
+ * the live one. Adds made while a rebuild runs go to both keys. The key name carries the bitmap
+ * size and hash count, so a configuration change starts a fresh filter instead of misreading the
+ * old one. Until the filter is built, and whenever Redis fails, every id might exist.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobIdFilter {
+
+    private static final String KEY_PREFIX = "job-id-filter:";
+    private static final String FILTER = "job_id_filter";
+
+    // Missing filter means not built yet, so every id might exist
+    private static final DefaultRedisScript<Long> CONTAINS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return 1 end " +
+            "for i = 1, #ARGV do if redis.call('getbit', KEYS[1], ARGV[i]) == 0 then return 0 end end " +
+            "return 1",
+            Long.class);
+
+    // KEYS: live filter, rebuild filter, rebuild lock. A filter that is not built yet stays
+    // missing, as one holding only the new ids would reject every older one
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local built = redis.call('exists', KEYS[1]) == 1 " +
+            "local rebuilding = redis.call('exists', KEYS[3]) == 1 " +
+            "for i = 1, #ARGV do " +
+            "  if built then redis.call('setbit', KEYS[1], ARGV[i], 1) end " +
+            "  if rebuilding then redis.call('setbit', KEYS[2], ARGV[i], 1) end " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #ARGV do redis.call('setbit', KEYS[1], ARGV[i], 1) end return 1",
+            Long.class);
+
+    // Take the rebuild lock and start from an empty side key in one step
+    private static final DefaultRedisScript<Long> BEGIN_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+            "  redis.call('del', KEYS[2]) return 1 end " +
+            "return 0",
+            Long.class);
+
+    // Swap in the rebuilt filter only if the lock did not expire meanwhile
+    private static final DefaultRedisScript<Long> FINISH_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "if redis.call('exists', KEYS[2]) == 1 then redis.call('rename', KEYS[2], KEYS[3]) " +
+            "else redis.call('del', KEYS[3]) end " +
+            "redis.call('del', KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    private final JobRepository jobRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JobMetrics jobMetrics;
+
+    @Value("${job-id-filter.enabled}")
+    private boolean enabled;
+
+    @Value("${job-id-filter.expected-jobs}")
+    private long expectedJobs;
+
+    @Value("${job-id-filter.false-positive-rate}")
+    private double falsePositiveRate;
+
+    @Value("${job-id-filter.batch-size}")
+    private int batchSize;
+
+    @Value("${job-id-filter.rebuild-lock-ms}")
+    private long rebuildLockMs;
+
+    private long bits;
+    private int hashes;
+    private String filterKey;
+    private String rebuildKey;
+    private String lockKey;
+
+    @PostConstruct
+    public void init() {
+        bits = Math.max(64L, (long) Math.ceil(-expectedJobs * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        hashes = Math.max(1, (int) Math.round((double) bits / expectedJobs * Math.log(2)));
+        filterKey = KEY_PREFIX + bits + ":" + hashes;
+        rebuildKey = filterKey + ":rebuild";
+        lockKey = filterKey + ":lock";
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(filterKey))) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("Error building job id filter", e);
+        }
+    }
+
+    /**
+     * False only if the job certainly does not exist
+     */
+    public boolean mightContain(Long jobId) {
+        if (!enabled) {
+            return true;
+        }
+        try {
+            Long found = jobMetrics.recordRedis("bloom_check", () ->
+                    stringRedisTemplate.execute(CONTAINS_SCRIPT, List.of(filterKey), (Object[]) offsets(jobId)));
+            boolean mightContain = found == null || found != 0;
+            jobMetrics.recordCacheLookup(FILTER, mightContain ? JobMetrics.HIT : JobMetrics.MISS);
+            return mightContain;
+        } catch (Exception e) {
+            log.error("Error checking job id filter: {}", jobId, e);
+            jobMetrics.recordCacheLookup(FILTER, JobMetrics.ERROR);
+            return true;
+        }
+    }
+
+    /**
+     * Add created jobs to the filter
+     */
+    public void add(Collection<Long> jobIds) {
+        if (!enabled || jobIds.isEmpty()) {
+            return;
+        }
+        try {
+            String[] offsets = jobIds.stream()
+                    .flatMap(jobId -> List.of(offsets(jobId)).stream())
+                    .toArray(String[]::new);
+            jobMetrics.recordRedis("bloom_add", () ->
+                    stringRedisTemplate.execute(ADD_SCRIPT, List.of(filterKey, rebuildKey, lockKey), (Object[]) offsets));
+        } catch (Exception e) {
+            // The filter would now reject these ids, so drop it until it is rebuilt
+            log.error("Error adding {} jobs to id filter, discarding it", jobIds.size(), e);
+            try {
+                stringRedisTemplate.delete(filterKey);
+            } catch (Exception deleteError) {
+                log.error("Error discarding job id filter", deleteError);
+            }
+        }
+    }
+
+    /**
+     * Rebuild the filter from the database to drop deleted ids; one replica at a time
+     */
+    @Scheduled(fixedDelayString = "${job-id-filter.rebuild-interval-ms}",
+            initialDelayString = "${job-id-filter.rebuild-interval-ms}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        Long started = stringRedisTemplate.execute(BEGIN_REBUILD_SCRIPT, List.of(lockKey, rebuildKey),
+                token, String.valueOf(rebuildLockMs));
+        if (started == null || started == 0) {
+            log.debug("Job id filter rebuild already running elsewhere");
+            return;
+        }
+
+        long count = 0;
+        Long afterId = 0L;
+        List<Long> ids;
+        while (!(ids = jobRepository.findIdsAfterId(afterId, PageRequest.of(0, batchSize))).isEmpty()) {
+            List<String> offsets = new ArrayList<>(ids.size() * hashes);
+            ids.forEach(jobId -> offsets.addAll(List.of(offsets(jobId))));
+            stringRedisTemplate.execute(FILL_SCRIPT, List.of(rebuildKey), offsets.toArray());
+            count += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        Long finished = stringRedisTemplate.execute(FINISH_REBUILD_SCRIPT, List.of(lockKey, rebuildKey, filterKey), token);
+        if (finished == null || finished == 0) {
+            log.warn("Job id filter rebuild outlived its lock, keeping the previous filter");
+            return;
+        }
+        log.info("Rebuilt job id filter with {} jobs ({} bits, {} hashes)", count, bits, hashes);
+    }
+
+    /**
+     * Bit offsets of an id, by double hashing of a 64-bit mix
+     */
+    private String[] offsets(Long jobId) {
+        long hash = mix(jobId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        String[] offsets = new String[hashes];
+        for (int i = 0; i < hashes; i++) {
+            offsets[i] = String.valueOf(Math.floorMod(h1 + (long) i * h2, bits));
+        }
+        return offsets;
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
\ No newline at end of file
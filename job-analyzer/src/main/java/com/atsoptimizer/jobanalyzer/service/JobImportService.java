@@ -0,0 +1,537 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.dto.ImportProgress;
+import com.atsoptimizer.jobanalyzer.dto.JobCreateRequest;
+import com.atsoptimizer.jobanalyzer.exception.ImportNotFoundException;
+import com.atsoptimizer.jobanalyzer.exception.InvalidRequestException;
+import com.atsoptimizer.jobanalyzer.model.ImportCheckpoint;
+import com.atsoptimizer.jobanalyzer.model.Job;
+import com.atsoptimizer.jobanalyzer.repository.ImportCheckpointRepository;
+import com.atsoptimizer.jobanalyzer.repository.JobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming NDJSON import for job dumps that are too large to hold in memory.
+ *
+ * The calling thread reads and parses one line at a time and hands each posting to the
+ * extraction pool. The resulting futures pass, in input order, through a bounded queue to a
+ * persister thread that inserts them in chunks; a full queue blocks the reader, so heap use
+ * depends on the queue and chunk sizes rather than the size of the input. Every chunk, and
+ * every row of a chunk that has to be retried row by row, is committed in the same transaction
+ * as a checkpoint of the input position, so an interrupted import resumes after its last
+ * committed line without inserting any row twice.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobImportService {
+
+    public static final String UPLOAD_SOURCE = "upload";
+
+    private static final Pending END = new Pending(0, 0, null, null);
+
+    private final JobService jobService;
+    private final JobRepository jobRepository;
+    private final ImportCheckpointRepository checkpointRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor extractionExecutor;
+
+    @Value("${jobs.import.chunk-size}")
+    private int chunkSize;
+
+    @Value("${jobs.import.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${jobs.import.max-line-bytes}")
+    private int maxLineBytes;
+
+    private final Map<String, Tracker> running = new ConcurrentHashMap<>();
+
+    /**
+     * Import an NDJSON file, seeking past whatever an earlier run with the same id committed.
+     * Without an id the import is keyed by the file path, so re-running the same import resumes it.
+     */
+    public ImportProgress importFile(Path path, String importId) throws IOException {
+        Path file = path.toAbsolutePath().normalize();
+        String id = importId != null ? importId
+                : UUID.nameUUIDFromBytes(file.toString().getBytes(StandardCharsets.UTF_8)).toString();
+
+        ImportCheckpoint checkpoint = startCheckpoint(id, file.toString());
+        if (checkpoint == null) {
+            return getProgress(id);
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            in.skipNBytes(checkpoint.getCommittedBytes());
+            return run(in, checkpoint, checkpoint.getCommittedLines(), checkpoint.getCommittedBytes());
+        }
+    }
+
+    /**
+     * Import an NDJSON stream. When resuming, the client sends the same input again and the
+     * lines committed by the earlier run are read past without being parsed.
+     */
+    public ImportProgress importStream(InputStream in, String importId) {
+        String id = importId != null ? importId : UUID.randomUUID().toString();
+
+        ImportCheckpoint checkpoint = startCheckpoint(id, UPLOAD_SOURCE);
+        if (checkpoint == null) {
+            return getProgress(id);
+        }
+        return run(in, checkpoint, 0, 0);
+    }
+
+    /**
+     * Progress of a running import, or the last committed state of a finished one
+     */
+    public ImportProgress getProgress(String importId) {
+        Tracker tracker = running.get(importId);
+        if (tracker != null) {
+            return tracker.toProgress();
+        }
+        ImportCheckpoint checkpoint = checkpointRepository.findById(importId)
+                .orElseThrow(() -> new ImportNotFoundException(importId));
+        return toProgress(checkpoint, checkpoint.getCommittedLines(), 0.0);
+    }
+
+    /**
+     * Load or create the checkpoint and mark it running, or return null if it already completed
+     */
+    private ImportCheckpoint startCheckpoint(String importId, String source) {
+        if (running.containsKey(importId)) {
+            throw new InvalidRequestException("Import " + importId + " is already running");
+        }
+        ImportCheckpoint checkpoint = checkpointRepository.findById(importId)
+                .orElseGet(() -> ImportCheckpoint.builder()
+                        .importId(importId)
+                        .source(source)
+                        .build());
+        if (ImportCheckpoint.COMPLETED.equals(checkpoint.getStatus())) {
+            log.info("Import {} already completed", importId);
+            return null;
+        }
+        if (checkpoint.getCommittedLines() > 0) {
+            log.info("Resuming import {} after line {}", importId, checkpoint.getCommittedLines());
+        }
+        checkpoint.setStatus(ImportCheckpoint.RUNNING);
+        return checkpointRepository.save(checkpoint);
+    }
+
+    private ImportProgress run(InputStream in, ImportCheckpoint checkpoint, long startLine, long startByte) {
+        String importId = checkpoint.getImportId();
+        Tracker tracker = new Tracker(checkpoint);
+        if (running.putIfAbsent(importId, tracker) != null) {
+            throw new InvalidRequestException("Import " + importId + " is already running");
+        }
+
+        try {
+            BlockingQueue<Pending> queue = new ArrayBlockingQueue<>(queueCapacity);
+            Thread persister = new Thread(() -> persist(queue, tracker), "job-import-" + importId);
+            persister.start();
+
+            boolean readFailed = false;
+            try {
+                read(in, startLine, startByte, queue, tracker);
+            } catch (Exception e) {
+                log.error("Error reading import {} at line {}", importId, tracker.linesRead, e);
+                readFailed = true;
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+            } finally {
+                finish(queue, persister, tracker);
+            }
+
+            ImportCheckpoint last = tracker.checkpoint;
+            last.setStatus(readFailed || tracker.failure != null ? ImportCheckpoint.FAILED : ImportCheckpoint.COMPLETED);
+            tracker.checkpoint = checkpointRepository.save(last);
+
+            ImportProgress progress = tracker.toProgress();
+            log.info("Import {} {}: {} imported, {} failed, {} rows/s", importId, progress.getStatus(),
+                    progress.getImported(), progress.getFailed(), Math.round(progress.getRowsPerSecond()));
+            return progress;
+        } finally {
+            running.remove(importId);
+        }
+    }
+
+    /**
+     * Parse stage: runs on the calling thread and blocks while the persist queue is full
+     */
+    private void read(InputStream in, long startLine, long startByte, BlockingQueue<Pending> queue,
+                      Tracker tracker) throws IOException, InterruptedException {
+        LineReader reader = new LineReader(in, startByte, maxLineBytes);
+        long committedLines = tracker.checkpoint.getCommittedLines();
+        long line = startLine;
+
+        byte[] bytes;
+        while ((bytes = reader.next()) != null) {
+            line++;
+            tracker.linesRead = line;
+            if (line <= committedLines) {
+                continue;
+            }
+            enqueue(queue, prepare(bytes, reader.truncated(), line, reader.position()), tracker);
+        }
+    }
+
+    /**
+     * Parse and validate one line and start its extraction on the extraction pool
+     */
+    private Pending prepare(byte[] bytes, boolean truncated, long line, long offset) {
+        if (truncated) {
+            return new Pending(line, offset, null, "Line exceeds " + maxLineBytes + " bytes");
+        }
+        if (isBlank(bytes)) {
+            return new Pending(line, offset, null, null);
+        }
+
+        JobCreateRequest request;
+        try {
+            request = objectMapper.readValue(bytes, JobCreateRequest.class);
+        } catch (IOException e) {
+            return new Pending(line, offset, null, "Malformed JSON");
+        }
+        String violation = jobService.validate(request);
+        if (violation != null) {
+            return new Pending(line, offset, null, violation);
+        }
+
+        CompletableFuture<Job> job = CompletableFuture.supplyAsync(
+                () -> jobService.prepareJob(request), extractionExecutor);
+        return new Pending(line, offset, job, null);
+    }
+
+    private void enqueue(BlockingQueue<Pending> queue, Pending item, Tracker tracker) throws InterruptedException {
+        while (!queue.offer(item, 1, TimeUnit.SECONDS)) {
+            if (tracker.failure != null) {
+                throw new IllegalStateException("Import persister stopped", tracker.failure);
+            }
+        }
+    }
+
+    private void finish(BlockingQueue<Pending> queue, Thread persister, Tracker tracker) {
+        try {
+            enqueue(queue, END, tracker);
+        } catch (InterruptedException e) {
+            persister.interrupt();
+            Thread.currentThread().interrupt();
+        } catch (IllegalStateException e) {
+            // The persister already stopped
+        }
+        try {
+            persister.join();
+        } catch (InterruptedException e) {
+            persister.interrupt();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Persist stage: waits for each extraction in input order and commits every chunk-size lines
+     */
+    private void persist(BlockingQueue<Pending> queue, Tracker tracker) {
+        String importId = tracker.checkpoint.getImportId();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        Pending last = null;
+        int lines = 0;
+        long failed = 0;
+
+        try {
+            while (true) {
+                Pending item = queue.take();
+                if (item == END) {
+                    break;
+                }
+                if (item.error != null) {
+                    log.warn("Skipping line {} of import {}: {}", item.line, importId, item.error);
+                    failed++;
+                } else if (item.job != null) {
+                    try {
+                        chunk.add(new Row(item.job.join(), item.line, item.offset, failed));
+                    } catch (CompletionException e) {
+                        log.error("Error extracting keywords for line {} of import {}", item.line, importId, e.getCause());
+                        failed++;
+                    }
+                }
+                last = item;
+
+                if (++lines >= chunkSize) {
+                    commit(chunk, last, failed, tracker);
+                    chunk.clear();
+                    lines = 0;
+                    failed = 0;
+                }
+            }
+            if (lines > 0) {
+                commit(chunk, last, failed, tracker);
+            }
+        } catch (InterruptedException e) {
+            tracker.failure = e;
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Error persisting import {}", importId, e);
+            tracker.failure = e;
+        }
+    }
+
+    /**
+     * Insert a chunk and advance the checkpoint in one transaction. If the chunk fails it is
+     * retried row by row so only the offending rows are lost.
+     */
+    private void commit(List<Row> chunk, Pending last, long failed, Tracker tracker) {
+        ImportCheckpoint checkpoint = tracker.checkpoint;
+        long imported = checkpoint.getImported();
+        long previouslyFailed = checkpoint.getFailed();
+        List<Job> jobs = chunk.stream().map(row -> row.job).collect(Collectors.toList());
+
+        try {
+            advance(checkpoint, last.line, last.offset, imported + jobs.size(), previouslyFailed + failed);
+            tracker.checkpoint = transactionTemplate.execute(status -> {
+                jobRepository.saveAll(jobs);
+                return checkpointRepository.save(checkpoint);
+            });
+            jobService.recordCreated(jobs);
+        } catch (RuntimeException e) {
+            log.warn("Import chunk insert failed, retrying {} rows individually", chunk.size(), e);
+            retryRows(chunk, last, failed, imported, previouslyFailed, tracker);
+        }
+    }
+
+    /**
+     * Insert the rows of a failed chunk one transaction each, advancing the checkpoint to the
+     * row's line in the same transaction, then move the checkpoint to the end of the chunk
+     */
+    private void retryRows(List<Row> chunk, Pending last, long failed, long imported, long previouslyFailed,
+                           Tracker tracker) {
+        String importId = tracker.checkpoint.getImportId();
+        List<Job> saved = new ArrayList<>(chunk.size());
+        long rowsFailed = 0;
+
+        for (Row row : chunk) {
+            row.job.setId(null);
+            ImportCheckpoint checkpoint = tracker.checkpoint;
+            advance(checkpoint, row.line, row.offset, imported + saved.size() + 1,
+                    previouslyFailed + row.failedBefore + rowsFailed);
+            try {
+                tracker.checkpoint = transactionTemplate.execute(status -> {
+                    jobRepository.saveAndFlush(row.job);
+                    return checkpointRepository.save(checkpoint);
+                });
+                saved.add(row.job);
+            } catch (RuntimeException rowError) {
+                log.error("Error saving line {} of import {}", row.line, importId, rowError);
+                rowsFailed++;
+            }
+        }
+
+        ImportCheckpoint checkpoint = tracker.checkpoint;
+        advance(checkpoint, last.line, last.offset, imported + saved.size(), previouslyFailed + failed + rowsFailed);
+        tracker.checkpoint = checkpointRepository.save(checkpoint);
+        jobService.recordCreated(saved);
+    }
+
+    private static void advance(ImportCheckpoint checkpoint, long line, long offset, long imported, long failed) {
+        checkpoint.setCommittedLines(line);
+        checkpoint.setCommittedBytes(offset);
+        checkpoint.setImported(imported);
+        checkpoint.setFailed(failed);
+    }
+
+    private static boolean isBlank(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ImportProgress toProgress(ImportCheckpoint checkpoint, long linesRead, double rowsPerSecond) {
+        return ImportProgress.builder()
+                .importId(checkpoint.getImportId())
+                .source(checkpoint.getSource())
+                .status(checkpoint.getStatus())
+                .linesRead(linesRead)
+                .committedLines(checkpoint.getCommittedLines())
+                .committedBytes(checkpoint.getCommittedBytes())
+                .imported(checkpoint.getImported())
+                .failed(checkpoint.getFailed())
+                .rowsPerSecond(rowsPerSecond)
+                .startedAt(checkpoint.getCreatedAt())
+                .updatedAt(checkpoint.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * A parsed line on its way to the persister: a pending extraction, an error, or neither for a blank line
+     */
+    private static final class Pending {
+
+        private final long line;
+        private final long offset;  // Byte offset just past this line
+        private final CompletableFuture<Job> job;
+        private final String error;
+
+        private Pending(long line, long offset, CompletableFuture<Job> job, String error) {
+            this.line = line;
+            this.offset = offset;
+            this.job = job;
+            this.error = error;
+        }
+    }
+
+    /**
+     * An extracted job waiting in a chunk, with its input position and the number of lines of
+     * the chunk that failed before it
+     */
+    private static final class Row {
+
+        private final Job job;
+        private final long line;
+        private final long offset;
+        private final long failedBefore;
+
+        private Row(Job job, long line, long offset, long failedBefore) {
+            this.job = job;
+            this.line = line;
+            this.offset = offset;
+            this.failedBefore = failedBefore;
+        }
+    }
+
+    /**
+     * Live state of an import running on this instance
+     */
+    private static final class Tracker {
+
+        private final long startNanos = System.nanoTime();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long importedAtStart;
+
+        private volatile ImportCheckpoint checkpoint;
+        private volatile long linesRead;
+        private volatile Throwable failure;
+
+        private Tracker(ImportCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            this.importedAtStart = checkpoint.getImported();
+            this.linesRead = checkpoint.getCommittedLines();
+        }
+
+        ImportProgress toProgress() {
+            ImportCheckpoint current = checkpoint;
+            double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            double rowsPerSecond = seconds > 0 ? (current.getImported() - importedAtStart) / seconds : 0.0;
+            ImportProgress progress = JobImportService.toProgress(current, linesRead, rowsPerSecond);
+            progress.setStartedAt(startedAt);
+            return progress;
+        }
+    }
+
+    /**
+     * Reads '\n'-terminated lines as raw bytes while tracking the byte offset, so a file import
+     * can seek straight to its checkpoint. Lines longer than the limit are consumed but cut short.
+     */
+    private static final class LineReader {
+
+        private final InputStream in;
+        private final int maxLineBytes;
+        private final byte[] buffer = new byte[64 * 1024];
+        private byte[] line = new byte[1024];
+        private int pos;
+        private int limit;
+        private int length;
+        private long position;
+        private boolean truncated;
+
+        private LineReader(InputStream in, long position, int maxLineBytes) {
+            this.in = in;
+            this.position = position;
+            this.maxLineBytes = maxLineBytes;
+        }
+
+        byte[] next() throws IOException {
+            length = 0;
+            truncated = false;
+            boolean started = false;
+
+            while (true) {
+                if (pos == limit) {
+                    limit = Math.max(in.read(buffer), 0);
+                    pos = 0;
+                    if (limit == 0) {
+                        return started ? line() : null;
+                    }
+                }
+                started = true;
+
+                int start = pos;
+                while (pos < limit && buffer[pos] != '\n') {
+                    pos++;
+                }
+                append(start, pos - start);
+                position += pos - start;
+
+                if (pos < limit) {
+                    pos++;
+                    position++;
+                    return line();
+                }
+            }
+        }
+
+        boolean truncated() {
+            return truncated;
+        }
+
+        long position() {
+            return position;
+        }
+
+        private void append(int from, int count) {
+            int accepted = Math.min(count, maxLineBytes - length);
+            if (accepted < count) {
+                truncated = true;
+            }
+            if (length + accepted > line.length) {
+                line = Arrays.copyOf(line, Math.min(Math.max(line.length * 2, length + accepted), maxLineBytes));
+            }
+            System.arraycopy(buffer, from, line, length, accepted);
+            length += accepted;
+        }
+
+        private byte[] line() {
+            int end = length;
+            if (end > 0 && line[end - 1] == '\r') {
+                end--;
+            }
+            return Arrays.copyOf(line, end);
+        }
+    }
+}
\ No newline at end of file
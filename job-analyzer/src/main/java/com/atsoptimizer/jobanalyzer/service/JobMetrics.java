@@ -0,0 +1,107 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.exception.JobNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters for the service layer, exported on /actuator/prometheus.
+ *
+ * Timers are tagged with what ran and its outcome, so failed calls do not skew the latency of
+ * successful ones. Histogram buckets are switched on per meter name in application.yml.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobMetrics {
+
+    public static final String OPERATION_TIMER = "jobs.operation";
+    public static final String EXTRACTION_TIMER = "jobs.extraction";
+    public static final String CACHE_COUNTER = "jobs.cache.requests";
+    public static final String REDIS_TIMER = "jobs.cache.redis";
+
+    public static final String SUCCESS = "success";
+    public static final String NOT_FOUND = "not_found";
+    public static final String ERROR = "error";
+
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+    public static final String COALESCED = "coalesced";
+    public static final String EARLY_REFRESH = "early_refresh";
+    public static final String TOMBSTONE = "tombstone";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Time one JobService operation
+     */
+    public <T> T recordOperation(String operation, Supplier<T> work) {
+        return record(OPERATION_TIMER, "operation", operation, work);
+    }
+
+    public void recordOperation(String operation, Runnable work) {
+        record(OPERATION_TIMER, "operation", operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Time one keyword extraction facet
+     */
+    public <T> T recordExtraction(String facet, Supplier<T> work) {
+        return record(EXTRACTION_TIMER, "facet", facet, work);
+    }
+
+    /**
+     * Time one Redis command issued by the cache
+     */
+    public <T> T recordRedis(String command, Supplier<T> work) {
+        return record(REDIS_TIMER, "command", command, work);
+    }
+
+    /**
+     * Count a cache lookup by its result: hit, miss or error
+     */
+    public void recordCacheLookup(String cache, String result) {
+        recordCacheLookups(cache, result, 1);
+    }
+
+    /**
+     * Count the lookups of a multi-key read that had the same result
+     */
+    public void recordCacheLookups(String cache, String result, long count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder(CACHE_COUNTER)
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private <T> T record(String name, String key, String value, Supplier<T> work) {
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = work.get();
+            outcome = SUCCESS;
+            return result;
+        } catch (JobNotFoundException e) {
+            outcome = NOT_FOUND;
+            throw e;
+        } finally {
+            Timer.builder(name)
+                    .tag(key, value)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
\ No newline at end of file
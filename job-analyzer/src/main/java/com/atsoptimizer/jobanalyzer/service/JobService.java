@@ -1,20 +1,57 @@
 package com.atsoptimizer.jobanalyzer.service;
 
+import com.atsoptimizer.jobanalyzer.dto.JobBatchItemResult;
+import com.atsoptimizer.jobanalyzer.dto.JobBatchResponse;
 import com.atsoptimizer.jobanalyzer.dto.JobCreateRequest;
+import com.atsoptimizer.jobanalyzer.dto.JobPage;
 import com.atsoptimizer.jobanalyzer.dto.JobResponse;
+import com.atsoptimizer.jobanalyzer.exception.InvalidRequestException;
 import com.atsoptimizer.jobanalyzer.exception.JobNotFoundException;
+import com.atsoptimizer.jobanalyzer.model.ExtractionStatus;
 import com.atsoptimizer.jobanalyzer.model.Job;
 import com.atsoptimizer.jobanalyzer.repository.JobRepository;
+import com.atsoptimizer.jobanalyzer.repository.JobSearchHit;
+import com.atsoptimizer.jobanalyzer.service.extraction.JobAnalysis;
+import com.atsoptimizer.jobanalyzer.service.extraction.MinHash;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -22,100 +59,467 @@ import java.util.stream.Collectors;
 public class JobService {
 
     private final JobRepository jobRepository;
-    private final KeywordExtractionService keywordExtractionService;
+    private final ExtractionCacheService extractionCacheService;
+    private final KeywordStatisticsService keywordStatisticsService;
+    private final NearDuplicateService nearDuplicateService;
+    private final JobMetrics jobMetrics;
     private final CacheService cacheService;
+    private final JobIdFilter jobIdFilter;
     private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor extractionExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final AutocompleteService autocompleteService;
+    private final SkillIndexService skillIndexService;
+
+    @Value("${jobs.batch.max-size}")
+    private int batchMaxSize;
+
+    @Value("${jobs.fetch.max-ids}")
+    private int fetchMaxIds;
+
+    @Value("${jobs.fetch.chunk-size}")
+    private int fetchChunkSize;
+
+    @Value("${jobs.page.default-size}")
+    private int pageDefaultSize;
+
+    @Value("${jobs.page.max-size}")
+    private int pageMaxSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchChunkSize;
 
     /**
      * Create a new job posting
      */
     @Transactional
     public JobResponse createJob(JobCreateRequest request) {
-        log.info("Creating job for user: {}, title: {}", request.getUserId(), request.getTitle());
+        return jobMetrics.recordOperation("create", () -> {
+            log.info("Creating job for user: {}, title: {}", request.getUserId(), request.getTitle());
 
-        // Combine description and requirements for analysis
-        String fullText = request.getDescription() + " " +
-                (request.getRequirements() != null ? request.getRequirements() : "");
+            // Extract information from description and requirements in one pass,
+            // or reuse the results of a near-duplicate posting
+            Job job = prepareJob(request);
 
-        // Extract information using KeywordExtractionService
-        List<String> keywords = keywordExtractionService.extractKeywords(fullText);
-        List<String> requiredSkills = keywordExtractionService.extractRequiredSkills(fullText);
-        List<String> preferredSkills = keywordExtractionService.extractPreferredSkills(fullText);
-        String experienceLevel = keywordExtractionService.detectExperienceLevel(fullText);
-        String educationLevel = keywordExtractionService.detectEducationLevel(fullText);
+            Job savedJob = jobRepository.save(job);
+            log.info("Job created successfully with id: {}", savedJob.getId());
 
-        // Build job entity
-        Job job = Job.builder()
-                .userId(request.getUserId())
-                .title(request.getTitle())
-                .company(request.getCompany())
-                .description(request.getDescription())
-                .requirements(request.getRequirements())
-                .extractedKeywords(toJson(keywords))
-                .requiredSkills(toJson(requiredSkills))
-                .preferredSkills(toJson(preferredSkills))
-                .experienceLevel(experienceLevel)
-                .educationLevel(educationLevel)
-                .location(request.getLocation())
-                .jobType(request.getJobType())
-                .sourceUrl(request.getSourceUrl())
-                .build();
+            afterCommit(() -> {
+                keywordStatisticsService.recordAdded(fromJson(savedJob.getExtractedKeywords()));
+                nearDuplicateService.index(savedJob);
+                skillIndexService.index(savedJob);
+                autocompleteService.recordAdded(savedJob);
+                recordExisting(List.of(savedJob.getId()));
+
+                // Invalidate user's jobs cache
+                cacheService.invalidateUserJobs(request.getUserId());
+            });
 
-        Job savedJob = jobRepository.save(job);
-        log.info("Job created successfully with id: {}", savedJob.getId());
+            return toJobResponse(savedJob);
+        });
+    }
 
-        // Invalidate user's jobs cache
-        cacheService.invalidateUserJobs(request.getUserId());
+    /**
+     * Create a job posting and extract keywords in the background. The row is saved with a
+     * PENDING extraction status and extraction is queued once the insert commits, so the
+     * request neither waits on extraction nor holds a connection while it runs.
+     */
+    @Transactional
+    public JobResponse createJobAsync(JobCreateRequest request) {
+        return jobMetrics.recordOperation("create_async", () -> {
+            log.info("Creating job with async extraction for user: {}, title: {}", request.getUserId(), request.getTitle());
+
+            Job job = newJob(request);
+            Job canonical = findCanonical(job);
+            if (canonical != null) {
+                // Nothing left to extract
+                linkCanonical(job, canonical);
+            } else {
+                job.setExtractionStatus(ExtractionStatus.PENDING);
+            }
+
+            Job savedJob = jobRepository.save(job);
+            if (canonical != null) {
+                log.info("Job created with id: {}, linked to near-duplicate {}", savedJob.getId(), canonical.getId());
+            } else {
+                log.info("Job created with id: {}, extraction pending", savedJob.getId());
+                eventPublisher.publishEvent(new ExtractionRequestedEvent(savedJob.getId()));
+            }
+            afterCommit(() -> {
+                nearDuplicateService.index(savedJob);
+                skillIndexService.index(savedJob);
+                autocompleteService.recordAdded(savedJob);
+                recordExisting(List.of(savedJob.getId()));
+                if (canonical != null) {
+                    keywordStatisticsService.recordAdded(fromJson(savedJob.getExtractedKeywords()));
+                }
+                cacheService.invalidateUserJobs(request.getUserId());
+            });
+
+            return toJobResponse(savedJob);
+        });
+    }
 
-        return toJobResponse(savedJob);
+    /**
+     * Create many job postings at once. Extraction runs in parallel on the extraction pool and
+     * rows are inserted in JDBC batches; every item gets its own result so one bad posting
+     * does not fail the rest.
+     */
+    public JobBatchResponse createJobs(List<JobCreateRequest> requests) {
+        return jobMetrics.recordOperation("create_batch", () -> {
+            if (requests.size() > batchMaxSize) {
+                throw new InvalidRequestException("Batch size " + requests.size() +
+                        " exceeds the maximum of " + batchMaxSize);
+            }
+            log.info("Creating batch of {} jobs", requests.size());
+
+            JobBatchItemResult[] results = new JobBatchItemResult[requests.size()];
+            List<Integer> indexes = new ArrayList<>();
+            List<CompletableFuture<Job>> prepared = new ArrayList<>();
+
+            for (int i = 0; i < requests.size(); i++) {
+                JobCreateRequest request = requests.get(i);
+                String violation = validate(request);
+                if (violation != null) {
+                    results[i] = JobBatchItemResult.failed(i, violation);
+                    continue;
+                }
+                indexes.add(i);
+                prepared.add(CompletableFuture.supplyAsync(() -> prepareJob(request), extractionExecutor));
+            }
+
+            List<Integer> savedIndexes = new ArrayList<>();
+            List<Job> jobs = new ArrayList<>();
+            for (int i = 0; i < prepared.size(); i++) {
+                try {
+                    jobs.add(prepared.get(i).join());
+                    savedIndexes.add(indexes.get(i));
+                } catch (CompletionException e) {
+                    log.error("Error extracting keywords for batch item {}", indexes.get(i), e.getCause());
+                    results[indexes.get(i)] = JobBatchItemResult.failed(indexes.get(i), "Keyword extraction failed");
+                }
+            }
+
+            List<String> errors = saveBatch(jobs);
+            for (int i = 0; i < jobs.size(); i++) {
+                int index = savedIndexes.get(i);
+                results[index] = errors.get(i) == null
+                        ? JobBatchItemResult.created(index, jobs.get(i).getId())
+                        : JobBatchItemResult.failed(index, errors.get(i));
+            }
+
+            int succeeded = (int) Arrays.stream(results)
+                    .filter(result -> JobBatchItemResult.CREATED.equals(result.getStatus()))
+                    .count();
+            log.info("Batch created {} of {} jobs", succeeded, requests.size());
+
+            return JobBatchResponse.builder()
+                    .total(requests.size())
+                    .succeeded(succeeded)
+                    .failed(requests.size() - succeeded)
+                    .results(Arrays.asList(results))
+                    .build();
+        });
     }
 
     /**
-     * Get job by ID (with caching)
+     * Insert prepared jobs in chunks of the JDBC batch size, one transaction per chunk.
+     * A chunk that fails is retried row by row so only the offending rows fail.
+     * Returns an error message per job, or null for jobs that were saved.
      */
-    public JobResponse getJob(Long jobId) {
-        log.debug("Fetching job with id: {}", jobId);
+    List<String> saveBatch(List<Job> jobs) {
+        String[] errors = new String[jobs.size()];
+
+        for (int from = 0; from < jobs.size(); from += batchChunkSize) {
+            List<Job> chunk = jobs.subList(from, Math.min(from + batchChunkSize, jobs.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jobRepository.saveAll(chunk);
+                    jobRepository.flush();
+                });
+            } catch (Exception e) {
+                log.warn("Batch chunk insert failed, retrying {} rows individually", chunk.size(), e);
+                for (int i = 0; i < chunk.size(); i++) {
+                    Job job = chunk.get(i);
+                    job.setId(null);
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> jobRepository.saveAndFlush(job));
+                    } catch (Exception rowError) {
+                        log.error("Error saving batch job: {}", job.getTitle(), rowError);
+                        errors[from + i] = "Could not save job";
+                    }
+                }
+            }
+        }
 
-        // Check cache first
-        JobResponse cachedJob = cacheService.getCachedJob(jobId);
-        if (cachedJob != null) {
-            return cachedJob;
+        List<Job> saved = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            if (errors[i] == null) {
+                saved.add(jobs.get(i));
+            }
         }
+        recordCreated(saved);
 
-        // Fetch from database
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new JobNotFoundException(jobId));
+        return Arrays.asList(errors);
+    }
 
-        JobResponse response = toJobResponse(job);
+    /**
+     * Update keyword statistics, indexes and user caches for jobs that were committed, or once
+     * the enclosing transaction commits
+     */
+    void recordCreated(List<Job> jobs) {
+        List<Job> created = List.copyOf(jobs);
+        afterCommit(() -> {
+            Set<String> userIds = new HashSet<>();
+            List<Long> jobIds = new ArrayList<>(created.size());
+            for (Job job : created) {
+                keywordStatisticsService.recordAdded(fromJson(job.getExtractedKeywords()));
+                nearDuplicateService.index(job);
+                skillIndexService.index(job);
+                autocompleteService.recordAdded(job);
+                userIds.add(job.getUserId());
+                jobIds.add(job.getId());
+            }
+            recordExisting(jobIds);
+            userIds.forEach(cacheService::invalidateUserJobs);
+        });
+    }
 
-        // Cache the response
-        cacheService.cacheJob(jobId, response);
+    /**
+     * Run once the current transaction commits, or right away outside a transaction. With
+     * pooled sequence ids the INSERT only runs at commit, so shared indexes, counters and caches
+     * are updated here to never hold ids or counts of rows that were rolled back.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runCommitted(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runCommitted(action);
+            }
+        });
+    }
 
-        return response;
+    private void runCommitted(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            // The rows are committed; indexes and counters catch up on their next rebuild
+            log.error("Error updating indexes after commit", e);
+        }
+    }
+
+    /**
+     * Add new job ids to the id filter and drop any not-found tombstones for them
+     */
+    private void recordExisting(List<Long> jobIds) {
+        jobIdFilter.add(jobIds);
+        cacheService.clearMissingJobs(jobIds);
+    }
+
+    /**
+     * Get job by ID (with caching)
+     */
+    public JobResponse getJob(Long jobId) {
+        return jobMetrics.recordOperation("get", () -> {
+            log.debug("Fetching job with id: {}", jobId);
+
+            // Concurrent misses share one database load, which also caches the response or a
+            // tombstone; ids the filter rules out never reach the database
+            JobResponse response = cacheService.getJob(jobId, () -> jobIdFilter.mightContain(jobId)
+                    ? jobRepository.findById(jobId).map(this::toJobResponse).orElse(null)
+                    : null);
+            if (response == null) {
+                throw new JobNotFoundException(jobId);
+            }
+            return response;
+        });
     }
 
     /**
      * Get all jobs for a user
      */
     public List<JobResponse> getUserJobs(String userId) {
-        log.debug("Fetching jobs for user: {}", userId);
+        return jobMetrics.recordOperation("list_user", () -> {
+            log.debug("Fetching jobs for user: {}", userId);
+
+            // The cached id list gives the order; entries come from MGETs of one chunk each
+            List<Long> jobIds = cacheService.getCachedUserJobIds(userId);
+            if (jobIds == null) {
+                List<JobResponse> responses = jobRepository.findByUserId(userId).stream()
+                        .map(this::toJobResponse)
+                        .collect(Collectors.toList());
+                cacheService.cacheUserJobIds(userId, responses.stream()
+                        .map(JobResponse::getId)
+                        .collect(Collectors.toList()));
+                cacheService.cacheJobs(responses);
+                return responses;
+            }
+
+            // Jobs deleted since the id list was cached are skipped
+            return findJobs(jobIds);
+        });
+    }
 
-        List<Job> jobs = jobRepository.findByUserId(userId);
-        return jobs.stream()
-                .map(this::toJobResponse)
-                .collect(Collectors.toList());
+    /**
+     * One page of a user's jobs, newest first
+     */
+    public JobPage getUserJobsPage(String userId, String cursor, Integer limit) {
+        return jobMetrics.recordOperation("page_user", () -> page(cursor, limit,
+                pageable -> jobRepository.findPageByUserId(userId, pageable),
+                (position, pageable) -> jobRepository.findPageByUserIdBefore(
+                        userId, position.createdAt(), position.getId(), pageable)));
     }
 
     /**
-     * Search jobs by keyword
+     * Write all of a user's jobs, newest first, as a JSON array
      */
-    public List<JobResponse> searchJobs(String keyword) {
-        log.debug("Searching jobs with keyword: {}", keyword);
+    @Transactional(readOnly = true)
+    public void streamUserJobs(String userId, OutputStream out) {
+        jobMetrics.recordOperation("stream_user", () -> writeJobs(jobRepository.streamByUserId(userId), out));
+    }
 
-        List<Job> jobs = jobRepository.searchByKeyword(keyword);
-        return jobs.stream()
-                .map(this::toJobResponse)
-                .collect(Collectors.toList());
+    /**
+     * Get many jobs by ID in the requested order; unknown IDs are skipped
+     */
+    public List<JobResponse> getJobs(List<Long> jobIds) {
+        return jobMetrics.recordOperation("get_many", () -> {
+            List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(jobIds));
+            if (distinct.size() > fetchMaxIds) {
+                throw new InvalidRequestException("Cannot fetch " + distinct.size() +
+                        " jobs at once, the maximum is " + fetchMaxIds);
+            }
+            log.debug("Fetching {} jobs by id", distinct.size());
+            return findJobs(distinct);
+        });
+    }
+
+    /**
+     * Jobs in the order of the given IDs. Each chunk of jobs.fetch.chunk-size IDs is read with
+     * one MGET and backfilled with one IN query and one cache pipeline, so neither the Redis
+     * command nor the bind parameter list grows with the number of IDs. IDs without a job are
+     * skipped.
+     */
+    private List<JobResponse> findJobs(List<Long> jobIds) {
+        List<JobResponse> jobs = new ArrayList<>(jobIds.size());
+        for (int from = 0; from < jobIds.size(); from += fetchChunkSize) {
+            List<Long> chunk = jobIds.subList(from, Math.min(from + fetchChunkSize, jobIds.size()));
+            Map<Long, JobResponse> found = cacheService.getCachedJobs(chunk);
+            List<Long> missing = chunk.stream()
+                    .filter(jobId -> !found.containsKey(jobId))
+                    .collect(Collectors.toList());
+            if (!missing.isEmpty()) {
+                List<JobResponse> loaded = jobRepository.findAllById(missing).stream()
+                        .map(this::toJobResponse)
+                        .collect(Collectors.toList());
+                loaded.forEach(response -> found.put(response.getId(), response));
+                cacheService.cacheJobs(loaded);
+            }
+            chunk.stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
+                    .forEach(jobs::add);
+        }
+        return jobs;
+    }
+
+    /**
+     * Search jobs by keyword, the best matches first, up to limit
+     */
+    public List<JobResponse> searchJobs(String keyword, Integer limit) {
+        return jobMetrics.recordOperation("search", () -> {
+            log.debug("Searching jobs with keyword: {}", keyword);
+            return searchPage(keyword, null, limit).getJobs();
+        });
+    }
+
+    /**
+     * One page of search results, best match first
+     */
+    public JobPage searchJobsPage(String keyword, String cursor, Integer limit) {
+        return jobMetrics.recordOperation("page_search", () -> searchPage(keyword, cursor, limit));
+    }
+
+    /**
+     * Write all search results, best match first, as a JSON array
+     */
+    @Transactional(readOnly = true)
+    public void streamSearchJobs(String keyword, OutputStream out) {
+        jobMetrics.recordOperation("stream_search", () -> writeJobs(jobRepository.streamSearch(keyword), out));
+    }
+
+    /**
+     * Rank matches with the full-text index, seeking past the cursor's score and id, then read
+     * the page's jobs through the cache. The query accepts web search syntax: quoted phrases,
+     * OR and -excluded terms.
+     */
+    private JobPage searchPage(String keyword, String cursor, Integer limit) {
+        int size = pageSize(limit);
+        JobCursor position = cursor == null || cursor.isEmpty() ? null : JobCursor.parse(cursor);
+        List<JobSearchHit> hits = position == null
+                ? jobRepository.search(keyword, size + 1)
+                : jobRepository.searchAfter(keyword, position.score(), position.getId(), size + 1);
+
+        boolean more = hits.size() > size;
+        List<JobSearchHit> shown = more ? hits.subList(0, size) : hits;
+        return JobPage.builder()
+                .jobs(findJobs(shown.stream().map(JobSearchHit::getId).collect(Collectors.toList())))
+                .nextCursor(more ? JobCursor.after(shown.get(size - 1)) : null)
+                .build();
+    }
+
+    /**
+     * Read one keyset page, asking for one extra row to learn whether another page follows
+     */
+    private JobPage page(String cursor, Integer limit,
+                         Function<Pageable, List<Job>> firstPage,
+                         BiFunction<JobCursor, Pageable, List<Job>> nextPage) {
+        int size = pageSize(limit);
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Job> jobs = cursor == null || cursor.isEmpty()
+                ? firstPage.apply(pageable)
+                : nextPage.apply(JobCursor.parse(cursor), pageable);
+
+        boolean more = jobs.size() > size;
+        List<Job> shown = more ? jobs.subList(0, size) : jobs;
+        return JobPage.builder()
+                .jobs(shown.stream().map(this::toJobResponse).collect(Collectors.toList()))
+                .nextCursor(more ? JobCursor.after(shown.get(size - 1)) : null)
+                .build();
+    }
+
+    private int pageSize(Integer limit) {
+        int size = limit != null ? limit : pageDefaultSize;
+        if (size < 1 || size > pageMaxSize) {
+            throw new InvalidRequestException("Limit must be between 1 and " + pageMaxSize);
+        }
+        return size;
+    }
+
+    /**
+     * Serialise jobs from a database cursor one at a time, detaching each so neither the
+     * persistence context nor the response buffer grows with the result count
+     */
+    private void writeJobs(Stream<Job> jobs, OutputStream out) {
+        try (Stream<Job> rows = jobs;
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            Iterator<Job> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Job job = iterator.next();
+                generator.writeObject(toJobResponse(job));
+                entityManager.detach(job);
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -123,43 +527,49 @@ public class JobService {
      */
     @Transactional
     public JobResponse updateJob(Long jobId, JobCreateRequest request) {
-        log.info("Updating job with id: {}", jobId);
-
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new JobNotFoundException(jobId));
-
-        // Update fields
-        job.setTitle(request.getTitle());
-        job.setCompany(request.getCompany());
-        job.setDescription(request.getDescription());
-        job.setRequirements(request.getRequirements());
-        job.setLocation(request.getLocation());
-        job.setJobType(request.getJobType());
-        job.setSourceUrl(request.getSourceUrl());
-
-        // Re-extract information
-        String fullText = request.getDescription() + " " +
-                (request.getRequirements() != null ? request.getRequirements() : "");
-
-        List<String> keywords = keywordExtractionService.extractKeywords(fullText);
-        List<String> requiredSkills = keywordExtractionService.extractRequiredSkills(fullText);
-        List<String> preferredSkills = keywordExtractionService.extractPreferredSkills(fullText);
-        String experienceLevel = keywordExtractionService.detectExperienceLevel(fullText);
-        String educationLevel = keywordExtractionService.detectEducationLevel(fullText);
-
-        job.setExtractedKeywords(toJson(keywords));
-        job.setRequiredSkills(toJson(requiredSkills));
-        job.setPreferredSkills(toJson(preferredSkills));
-        job.setExperienceLevel(experienceLevel);
-        job.setEducationLevel(educationLevel);
-
-        Job updatedJob = jobRepository.save(job);
-
-        // Invalidate cache
-        cacheService.invalidateJob(jobId);
-        cacheService.invalidateUserJobs(job.getUserId());
-
-        return toJobResponse(updatedJob);
+        return jobMetrics.recordOperation("update", () -> {
+            log.info("Updating job with id: {}", jobId);
+
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new JobNotFoundException(jobId));
+
+            // Update fields
+            String previousTitle = job.getTitle();
+            String previousCompany = job.getCompany();
+            job.setTitle(request.getTitle());
+            job.setCompany(request.getCompany());
+            job.setDescription(request.getDescription());
+            job.setRequirements(request.getRequirements());
+            job.setLocation(request.getLocation());
+            job.setJobType(request.getJobType());
+            job.setSourceUrl(request.getSourceUrl());
+            job.setMinhashSignature(signatureBytes(request.getDescription(), request.getRequirements()));
+            job.setCanonicalJobId(null);
+
+            // Re-extract information
+            boolean wasExtracted = isExtracted(job);
+            List<String> previousKeywords = fromJson(job.getExtractedKeywords());
+            JobAnalysis analysis = analyze(request);
+            applyAnalysis(job, analysis);
+
+            Job updatedJob = jobRepository.save(job);
+            afterCommit(() -> {
+                if (wasExtracted) {
+                    keywordStatisticsService.recordUpdated(previousKeywords, analysis.getKeywords());
+                } else {
+                    keywordStatisticsService.recordAdded(analysis.getKeywords());
+                }
+                nearDuplicateService.index(updatedJob);
+                skillIndexService.index(updatedJob);
+                autocompleteService.recordUpdated(previousTitle, previousCompany, updatedJob);
+
+                // Invalidate cache
+                cacheService.invalidateJob(jobId);
+                cacheService.invalidateUserJobs(updatedJob.getUserId());
+            });
+
+            return toJobResponse(updatedJob);
+        });
     }
 
     /**
@@ -167,22 +577,192 @@ public class JobService {
      */
     @Transactional
     public void deleteJob(Long jobId) {
-        log.info("Deleting job with id: {}", jobId);
-
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new JobNotFoundException(jobId));
+        jobMetrics.recordOperation("delete", () -> {
+            log.info("Deleting job with id: {}", jobId);
+
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new JobNotFoundException(jobId));
+
+            jobRepository.delete(job);
+            afterCommit(() -> {
+                if (isExtracted(job)) {
+                    keywordStatisticsService.recordRemoved(fromJson(job.getExtractedKeywords()));
+                }
+                nearDuplicateService.remove(jobId);
+                skillIndexService.remove(jobId);
+                autocompleteService.recordRemoved(job);
+
+                // Invalidate cache; the id stays in the filter until its next rebuild
+                cacheService.invalidateJob(jobId);
+                cacheService.cacheMissingJob(jobId);
+                cacheService.invalidateUserJobs(job.getUserId());
+            });
+        });
+    }
 
-        jobRepository.delete(job);
+    /**
+     * Store the result of a background extraction. Returns false if the job was deleted,
+     * already extracted, or its text changed while extraction ran. The job is claimed with a
+     * conditional update, so when two replicas finish the same job only one records it.
+     */
+    boolean completeExtraction(Long jobId, String description, String requirements, JobAnalysis analysis) {
+        Job completed = transactionTemplate.execute(status -> {
+            if (jobRepository.updateExtractionStatus(jobId, ExtractionStatus.PENDING,
+                    ExtractionStatus.COMPLETED, LocalDateTime.now()) == 0) {
+                return null;
+            }
+            Job job = jobRepository.findById(jobId).orElse(null);
+            if (job == null || !Objects.equals(job.getDescription(), description)
+                    || !Objects.equals(job.getRequirements(), requirements)) {
+                status.setRollbackOnly();
+                return null;
+            }
+            applyAnalysis(job, analysis);
+            return job;
+        });
+        if (completed == null) {
+            return false;
+        }
 
-        // Invalidate cache
+        keywordStatisticsService.recordAdded(analysis.getKeywords());
+        skillIndexService.index(completed);
         cacheService.invalidateJob(jobId);
-        cacheService.invalidateUserJobs(job.getUserId());
+        cacheService.invalidateUserJobs(completed.getUserId());
+        return true;
+    }
+
+    /**
+     * Mark a background extraction as failed, unless the job has moved on meanwhile
+     */
+    void failExtraction(Long jobId) {
+        Job failed = transactionTemplate.execute(status -> {
+            if (jobRepository.updateExtractionStatus(jobId, ExtractionStatus.PENDING,
+                    ExtractionStatus.FAILED, LocalDateTime.now()) == 0) {
+                return null;
+            }
+            return jobRepository.findById(jobId).orElse(null);
+        });
+        if (failed != null) {
+            cacheService.invalidateJob(jobId);
+            cacheService.invalidateUserJobs(failed.getUserId());
+        }
+    }
+
+    /**
+     * Extract information from description and requirements, ranked by TF-IDF.
+     * Identical postings share one cached extraction.
+     */
+    JobAnalysis analyze(JobCreateRequest request) {
+        return analyze(request.getDescription(), request.getRequirements());
+    }
+
+    JobAnalysis analyze(String description, String requirements) {
+        JobAnalysis analysis = extractionCacheService.analyze(description, requirements);
+        return keywordStatisticsService.rank(analysis);
+    }
+
+    /**
+     * Build a new job entity with its MinHash signature. When canonical linking is enabled and a
+     * near-duplicate exists, its extraction results are copied instead of extracting again.
+     */
+    Job prepareJob(JobCreateRequest request) {
+        Job job = newJob(request);
+        Job canonical = findCanonical(job);
+        if (canonical != null) {
+            linkCanonical(job, canonical);
+        } else {
+            applyAnalysis(job, analyze(request));
+        }
+        return job;
+    }
+
+    /**
+     * Bean validation for requests that do not pass through @Valid, or null if valid
+     */
+    String validate(JobCreateRequest request) {
+        if (request == null) {
+            return "Job is required";
+        }
+        Set<ConstraintViolation<JobCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Job entity with the request's fields and no extraction results yet
+     */
+    private Job newJob(JobCreateRequest request) {
+        return Job.builder()
+                .userId(request.getUserId())
+                .title(request.getTitle())
+                .company(request.getCompany())
+                .description(request.getDescription())
+                .requirements(request.getRequirements())
+                .location(request.getLocation())
+                .jobType(request.getJobType())
+                .sourceUrl(request.getSourceUrl())
+                .minhashSignature(signatureBytes(request.getDescription(), request.getRequirements()))
+                .build();
+    }
+
+    private byte[] signatureBytes(String description, String requirements) {
+        int[] signature = nearDuplicateService.signature(description, requirements);
+        return signature != null ? MinHash.toBytes(signature) : null;
+    }
+
+    /**
+     * Near-duplicate whose extraction results the new job can reuse, or null if linking is off
+     */
+    private Job findCanonical(Job job) {
+        if (!nearDuplicateService.isLinkingEnabled()) {
+            return null;
+        }
+        return nearDuplicateService.findCanonical(MinHash.fromBytes(job.getMinhashSignature()));
+    }
+
+    /**
+     * Copy the canonical job's extraction results onto the job entity
+     */
+    private void linkCanonical(Job job, Job canonical) {
+        job.setExtractedKeywords(canonical.getExtractedKeywords());
+        job.setRequiredSkills(canonical.getRequiredSkills());
+        job.setPreferredSkills(canonical.getPreferredSkills());
+        job.setExperienceLevel(canonical.getExperienceLevel());
+        job.setEducationLevel(canonical.getEducationLevel());
+        job.setTaxonomyVersion(canonical.getTaxonomyVersion());
+        job.setExtractionStatus(ExtractionStatus.COMPLETED);
+        job.setCanonicalJobId(canonical.getId());
+    }
+
+    /**
+     * Whether the job's keywords are counted in the corpus statistics
+     */
+    private boolean isExtracted(Job job) {
+        return job.getExtractionStatus() == null || job.getExtractionStatus() == ExtractionStatus.COMPLETED;
+    }
+
+    /**
+     * Copy extraction results onto the job entity
+     */
+    private void applyAnalysis(Job job, JobAnalysis analysis) {
+        job.setExtractedKeywords(toJson(analysis.getKeywords()));
+        job.setRequiredSkills(toJson(analysis.getRequiredSkills()));
+        job.setPreferredSkills(toJson(analysis.getPreferredSkills()));
+        job.setExperienceLevel(analysis.getExperienceLevel());
+        job.setEducationLevel(analysis.getEducationLevel());
+        job.setTaxonomyVersion(analysis.getTaxonomyVersion());
+        job.setExtractionStatus(ExtractionStatus.COMPLETED);
     }
 
     /**
      * Convert Job entity to JobResponse DTO
      */
-    private JobResponse toJobResponse(Job job) {
+    JobResponse toJobResponse(Job job) {
         return JobResponse.builder()
                 .id(job.getId())
                 .userId(job.getUserId())
@@ -195,6 +775,10 @@ public class JobService {
                 .preferredSkills(fromJson(job.getPreferredSkills()))
                 .experienceLevel(job.getExperienceLevel())
                 .educationLevel(job.getEducationLevel())
+                .taxonomyVersion(job.getTaxonomyVersion())
+                .extractionStatus(job.getExtractionStatus() != null
+                        ? job.getExtractionStatus().name() : ExtractionStatus.COMPLETED.name())
+                .canonicalJobId(job.getCanonicalJobId())
                 .location(job.getLocation())
                 .jobType(job.getJobType())
                 .sourceUrl(job.getSourceUrl())
@@ -206,7 +790,7 @@ public class JobService {
     /**
      * Convert list to JSON string
      */
-    private String toJson(List<String> list) {
+    String toJson(List<String> list) {
         try {
             return objectMapper.writeValueAsString(list);
         } catch (JsonProcessingException e) {
@@ -218,7 +802,7 @@ public class JobService {
     /**
      * Convert JSON string to list
      */
-    private List<String> fromJson(String json) {
+    List<String> fromJson(String json) {
         if (json == null || json.isEmpty()) {
             return Collections.emptyList();
         }
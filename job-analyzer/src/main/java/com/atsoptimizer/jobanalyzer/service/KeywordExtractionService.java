@@ -1,5 +1,12 @@
 package com.atsoptimizer.jobanalyzer.service;
 
+import com.atsoptimizer.jobanalyzer.service.extraction.JobAnalysis;
+import com.atsoptimizer.jobanalyzer.service.extraction.LevelClassifier;
+import com.atsoptimizer.jobanalyzer.service.extraction.PostingLevels;
+import com.atsoptimizer.jobanalyzer.service.extraction.PostingSegmenter;
+import com.atsoptimizer.jobanalyzer.service.extraction.SkillMatcher;
+import com.atsoptimizer.jobanalyzer.service.extraction.SkillTaxonomy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -10,64 +17,102 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class KeywordExtractionService {
 
-    // Common technical skills
-    private static final Set<String> TECHNICAL_SKILLS = new HashSet<>(Arrays.asList(
-            "java", "python", "javascript", "typescript", "kotlin", "swift", "c++", "c#", "go", "rust",
-            "react", "angular", "vue", "spring", "spring boot", "django", "flask", "node.js", "express",
-            "sql", "nosql", "postgresql", "mysql", "mongodb", "redis", "elasticsearch",
-            "aws", "azure", "gcp", "docker", "kubernetes", "jenkins", "git", "ci/cd",
-            "rest api", "graphql", "microservices", "agile", "scrum", "devops",
-            "machine learning", "ai", "data science", "tensorflow", "pytorch",
-            "html", "css", "sass", "webpack", "babel", "npm", "yarn"
-    ));
-
-    // Experience level indicators
-    private static final Map<String, String> EXPERIENCE_LEVELS = new HashMap<>() {{
-        put("junior|entry|graduate|0-2 years", "Entry");
-        put("mid|intermediate|2-5 years|3-5 years", "Mid");
-        put("senior|lead|principal|5\\+ years|6\\+ years", "Senior");
-        put("staff|architect|distinguished", "Staff");
-    }};
-
-    // Education level indicators
-    private static final Map<String, String> EDUCATION_LEVELS = new HashMap<>() {{
-        put("bachelor|bs|ba|b\\.s\\.|b\\.a\\.", "Bachelor's");
-        put("master|ms|ma|m\\.s\\.|m\\.a\\.|mba", "Master's");
-        put("phd|doctorate|ph\\.d\\.", "PhD");
-        put("associate|aa|as|a\\.a\\.|a\\.s\\.", "Associate");
-    }};
+    private final SkillTaxonomyService skillTaxonomyService;
+    private final NlpPipelineService nlpPipelineService;
+    private final JobMetrics jobMetrics;
+
+    private static final String NOT_SPECIFIED = PostingLevels.NOT_SPECIFIED;
+    private static final LevelClassifier EXPERIENCE_LEVELS = PostingLevels.EXPERIENCE;
+    private static final LevelClassifier EDUCATION_LEVELS = PostingLevels.EDUCATION;
+
+    private static final Pattern YEARS_PATTERN = Pattern.compile("(\\d+)\\+?\\s*years?");
 
     /**
-     * Extract keywords from job description
+     * Analyse a posting in one pass: the text is lowercased once and scanned once for skills,
+     * and every facet is derived from that single scan. Skills count as required or preferred
+     * by the section or sentence they appear in; the requirements field opens as required.
      */
-    public List<String> extractKeywords(String text) {
-        if (text == null || text.isEmpty()) {
-            return Collections.emptyList();
+    public JobAnalysis analyze(String description, String requirements) {
+        return jobMetrics.recordExtraction("analyze", () -> analyzeText(description, requirements));
+    }
+
+    private JobAnalysis analyzeText(String description, String requirements) {
+        // Read the taxonomy once so every facet of this analysis uses the same snapshot
+        SkillTaxonomy taxonomy = skillTaxonomyService.current();
+        SkillMatcher matcher = taxonomy.getMatcher();
+
+        String descriptionText = description != null ? description : "";
+        String text = descriptionText + "\n" + (requirements != null ? requirements : "");
+        if (text.isBlank()) {
+            return JobAnalysis.builder()
+                    .experienceLevel(NOT_SPECIFIED)
+                    .educationLevel(NOT_SPECIFIED)
+                    .taxonomyVersion(taxonomy.getVersion())
+                    .build();
         }
 
         String lowerText = text.toLowerCase();
-        Set<String> foundKeywords = new HashSet<>();
-
-        // Extract technical skills
-        for (String skill : TECHNICAL_SKILLS) {
-            if (lowerText.contains(skill.toLowerCase())) {
-                foundKeywords.add(skill);
+        LevelClassifier.Classification experience = EXPERIENCE_LEVELS.classify(text);
+        LevelClassifier.Classification education = EDUCATION_LEVELS.classify(text);
+        PostingSegmenter.Segments segments = PostingSegmenter.segment(text, descriptionText.length() + 1);
+
+        int[] counts = new int[matcher.skillCount()];
+        boolean[] seenRequired = new boolean[counts.length];
+        boolean[] seenPreferred = new boolean[counts.length];
+        List<String> requiredSkills = new ArrayList<>();
+        List<String> preferredSkills = new ArrayList<>();
+
+        matcher.scan(text, (skillId, start, end) -> {
+            counts[skillId]++;
+            PostingSegmenter.Scope scope = segments.scopeAt(start);
+            if (scope == PostingSegmenter.Scope.REQUIRED && !seenRequired[skillId]) {
+                seenRequired[skillId] = true;
+                requiredSkills.add(matcher.skill(skillId));
+            } else if (scope == PostingSegmenter.Scope.PREFERRED && !seenPreferred[skillId]) {
+                seenPreferred[skillId] = true;
+                preferredSkills.add(matcher.skill(skillId));
             }
+        });
+
+        // Noun-phrase candidates from the optional NLP stage extend the taxonomy keywords
+        NlpPipelineService.NounPhrases nounPhrases = nlpPipelineService.extractNounPhrases(text);
+        List<String> phrases = nounPhrases.getPhrases();
+        List<String> keywords = keywords(matcher, counts, lowerText);
+        if (!phrases.isEmpty()) {
+            Set<String> merged = new TreeSet<>(keywords);
+            merged.addAll(phrases);
+            keywords = List.copyOf(merged);
         }
 
-        // Extract years of experience mentions
-        Pattern yearsPattern = Pattern.compile("(\\d+)\\+?\\s*years?");
-        Matcher matcher = yearsPattern.matcher(lowerText);
-        while (matcher.find()) {
-            foundKeywords.add(matcher.group() + " experience");
-        }
+        return JobAnalysis.builder()
+                .keywords(keywords)
+                .phrases(phrases)
+                .requiredSkills(Collections.unmodifiableList(requiredSkills))
+                .preferredSkills(Collections.unmodifiableList(preferredSkills))
+                .experienceLevel(experience.getLevel())
+                .experienceConfidence(experience.getConfidence())
+                .educationLevel(education.getLevel())
+                .educationConfidence(education.getConfidence())
+                .keywordFrequency(Collections.unmodifiableMap(frequency(matcher, counts)))
+                .taxonomyVersion(taxonomy.getVersion())
+                .degraded(nounPhrases.isDegraded())
+                .build();
+    }
 
-        // Remove duplicates and sort
-        return foundKeywords.stream()
-                .sorted()
-                .collect(Collectors.toList());
+    /**
+     * Extract keywords from job description
+     */
+    public List<String> extractKeywords(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return jobMetrics.recordExtraction("keywords", () -> {
+            SkillMatcher matcher = skillTaxonomyService.current().getMatcher();
+            return keywords(matcher, matcher.countAll(text), text.toLowerCase());
+        });
     }
 
     /**
@@ -77,32 +122,8 @@ public class KeywordExtractionService {
         if (text == null || text.isEmpty()) {
             return Collections.emptyList();
         }
-
-        String lowerText = text.toLowerCase();
-        Set<String> requiredSkills = new HashSet<>();
-
-        // Look for required/must-have sections
-        String[] requiredIndicators = {
-                "required", "must have", "must-have", "mandatory", "essential"
-        };
-
-        for (String indicator : requiredIndicators) {
-            int index = lowerText.indexOf(indicator);
-            if (index != -1) {
-                // Extract text around the indicator (next 500 chars)
-                int endIndex = Math.min(index + 500, lowerText.length());
-                String section = lowerText.substring(index, endIndex);
-
-                // Find technical skills in this section
-                for (String skill : TECHNICAL_SKILLS) {
-                    if (section.contains(skill.toLowerCase())) {
-                        requiredSkills.add(skill);
-                    }
-                }
-            }
-        }
-
-        return new ArrayList<>(requiredSkills);
+        return jobMetrics.recordExtraction("required_skills",
+                () -> skillsInScope(text, PostingSegmenter.Scope.REQUIRED));
     }
 
     /**
@@ -112,29 +133,8 @@ public class KeywordExtractionService {
         if (text == null || text.isEmpty()) {
             return Collections.emptyList();
         }
-
-        String lowerText = text.toLowerCase();
-        Set<String> preferredSkills = new HashSet<>();
-
-        String[] preferredIndicators = {
-                "preferred", "nice to have", "nice-to-have", "bonus", "plus", "desired"
-        };
-
-        for (String indicator : preferredIndicators) {
-            int index = lowerText.indexOf(indicator);
-            if (index != -1) {
-                int endIndex = Math.min(index + 500, lowerText.length());
-                String section = lowerText.substring(index, endIndex);
-
-                for (String skill : TECHNICAL_SKILLS) {
-                    if (section.contains(skill.toLowerCase())) {
-                        preferredSkills.add(skill);
-                    }
-                }
-            }
-        }
-
-        return new ArrayList<>(preferredSkills);
+        return jobMetrics.recordExtraction("preferred_skills",
+                () -> skillsInScope(text, PostingSegmenter.Scope.PREFERRED));
     }
 
     /**
@@ -142,19 +142,9 @@ public class KeywordExtractionService {
      */
     public String detectExperienceLevel(String text) {
         if (text == null || text.isEmpty()) {
-            return "Not Specified";
+            return NOT_SPECIFIED;
         }
-
-        String lowerText = text.toLowerCase();
-
-        for (Map.Entry<String, String> entry : EXPERIENCE_LEVELS.entrySet()) {
-            Pattern pattern = Pattern.compile(entry.getKey());
-            if (pattern.matcher(lowerText).find()) {
-                return entry.getValue();
-            }
-        }
-
-        return "Not Specified";
+        return jobMetrics.recordExtraction("experience_level", () -> EXPERIENCE_LEVELS.classify(text).getLevel());
     }
 
     /**
@@ -162,36 +152,52 @@ public class KeywordExtractionService {
      */
     public String detectEducationLevel(String text) {
         if (text == null || text.isEmpty()) {
-            return "Not Specified";
+            return NOT_SPECIFIED;
         }
-
-        String lowerText = text.toLowerCase();
-
-        for (Map.Entry<String, String> entry : EDUCATION_LEVELS.entrySet()) {
-            Pattern pattern = Pattern.compile(entry.getKey());
-            if (pattern.matcher(lowerText).find()) {
-                return entry.getValue();
-            }
-        }
-
-        return "Not Specified";
+        return jobMetrics.recordExtraction("education_level", () -> EDUCATION_LEVELS.classify(text).getLevel());
     }
 
     /**
      * Calculate keyword frequency for ranking purposes
      */
     public Map<String, Integer> getKeywordFrequency(String text) {
-        Map<String, Integer> frequency = new HashMap<>();
-        String lowerText = text.toLowerCase();
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return jobMetrics.recordExtraction("keyword_frequency", () -> {
+            SkillMatcher matcher = skillTaxonomyService.current().getMatcher();
+            return frequency(matcher, matcher.countAll(text));
+        });
+    }
+
+    private List<String> keywords(SkillMatcher matcher, int[] counts, String lowerText) {
+        Set<String> foundKeywords = new TreeSet<>();
 
-        for (String skill : TECHNICAL_SKILLS) {
-            int count = countOccurrences(lowerText, skill.toLowerCase());
-            if (count > 0) {
-                frequency.put(skill, count);
+        // Technical skills
+        for (int skillId = 0; skillId < counts.length; skillId++) {
+            if (counts[skillId] > 0) {
+                foundKeywords.add(matcher.skill(skillId));
             }
         }
 
-        return frequency.entrySet().stream()
+        // Years of experience mentions
+        Matcher yearsMatcher = YEARS_PATTERN.matcher(lowerText);
+        while (yearsMatcher.find()) {
+            foundKeywords.add(yearsMatcher.group() + " experience");
+        }
+
+        return List.copyOf(foundKeywords);
+    }
+
+    private Map<String, Integer> frequency(SkillMatcher matcher, int[] counts) {
+        List<Map.Entry<String, Integer>> found = new ArrayList<>();
+        for (int skillId = 0; skillId < counts.length; skillId++) {
+            if (counts[skillId] > 0) {
+                found.add(Map.entry(matcher.skill(skillId), counts[skillId]));
+            }
+        }
+
+        return found.stream()
                 .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
@@ -201,15 +207,17 @@ public class KeywordExtractionService {
                 ));
     }
 
-    private int countOccurrences(String text, String keyword) {
-        int count = 0;
-        int index = 0;
+    private List<String> skillsInScope(String text, PostingSegmenter.Scope scope) {
+        SkillMatcher matcher = skillTaxonomyService.current().getMatcher();
+        PostingSegmenter.Segments segments = PostingSegmenter.segment(text);
 
-        while ((index = text.indexOf(keyword, index)) != -1) {
-            count++;
-            index += keyword.length();
-        }
+        Set<String> skills = new LinkedHashSet<>();
+        matcher.scan(text, (skillId, start, end) -> {
+            if (segments.scopeAt(start) == scope) {
+                skills.add(matcher.skill(skillId));
+            }
+        });
 
-        return count;
+        return new ArrayList<>(skills);
     }
 }
\ No newline at end of file
@@ -0,0 +1,311 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.repository.JobRepository;
+import com.atsoptimizer.jobanalyzer.repository.JobSkills;
+import com.atsoptimizer.jobanalyzer.service.extraction.JobAnalysis;
+import com.atsoptimizer.jobanalyzer.service.extraction.SkillTaxonomy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Corpus-wide document frequencies for keywords, used to rank extraction results by TF-IDF.
+ *
+ * Writes only bump in-memory LongAdders, so recording a job costs no I/O. Pending deltas are
+ * flushed to Redis periodically with HINCRBY, which also merges counts from other replicas,
+ * and the merged totals are read back as the snapshot used for ranking.
+ *
+ * Only taxonomy skills are counted, which keeps the hash bounded by the taxonomy; years of
+ * experience and NLP phrases rank as if they appeared in every posting. The counts are seeded
+ * from the jobs table when missing and rebuilt periodically, one replica at a time, into a side
+ * key that is renamed over the live one. Deltas flushed while a rebuild runs may be counted
+ * twice or not at all until the next rebuild.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KeywordStatisticsService {
+
+    private static final String DOCUMENT_FREQUENCY_KEY = "keyword_stats:df";
+    private static final String DOCUMENT_COUNT_KEY = "keyword_stats:docs";
+    private static final String REBUILD_KEY = "keyword_stats:df:rebuild";
+    private static final String LOCK_KEY = "keyword_stats:lock";
+
+    // KEYS: frequencies, document count. ARGV: document delta, then keyword and delta pairs.
+    // Missing statistics are rebuilt from the database, not restarted from these deltas
+    private static final DefaultRedisScript<Long> FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 0 then return 0 end " +
+            "redis.call('incrby', KEYS[2], ARGV[1]) " +
+            "for i = 2, #ARGV, 2 do redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "return 1",
+            Long.class);
+
+    // Take the rebuild lock and start from an empty side key in one step
+    private static final DefaultRedisScript<Long> BEGIN_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+            "  redis.call('del', KEYS[2]) return 1 end " +
+            "return 0",
+            Long.class);
+
+    // Swap in the rebuilt counts only if the lock did not expire meanwhile.
+    // KEYS: lock, rebuilt frequencies, frequencies, document count. ARGV: token, document count
+    private static final DefaultRedisScript<Long> FINISH_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "if redis.call('exists', KEYS[2]) == 1 then redis.call('rename', KEYS[2], KEYS[3]) " +
+            "else redis.call('del', KEYS[3]) end " +
+            "redis.call('set', KEYS[4], ARGV[2]) " +
+            "redis.call('del', KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JobRepository jobRepository;
+    private final SkillTaxonomyService skillTaxonomyService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${keyword-stats.batch-size}")
+    private int batchSize;
+
+    @Value("${keyword-stats.rebuild-lock-ms}")
+    private long rebuildLockMs;
+
+    private final ConcurrentHashMap<String, LongAdder> pendingFrequency = new ConcurrentHashMap<>();
+    private final LongAdder pendingDocuments = new LongAdder();
+
+    private volatile Map<String, Long> documentFrequency = Collections.emptyMap();
+    private volatile long documentCount;
+
+    @PostConstruct
+    public void init() {
+        try {
+            if (!refreshSnapshot()) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("Error building keyword statistics", e);
+        }
+    }
+
+    /**
+     * Record the keywords of a newly created job
+     */
+    public void recordAdded(Collection<String> keywords) {
+        pendingDocuments.increment();
+        tracked(keywords).forEach(keyword -> adjust(keyword, 1));
+    }
+
+    /**
+     * Record the keywords of a deleted job
+     */
+    public void recordRemoved(Collection<String> keywords) {
+        pendingDocuments.decrement();
+        tracked(keywords).forEach(keyword -> adjust(keyword, -1));
+    }
+
+    /**
+     * Record a change of keywords on an existing job; only the difference is applied
+     */
+    public void recordUpdated(Collection<String> oldKeywords, Collection<String> newKeywords) {
+        Set<String> before = tracked(oldKeywords);
+        Set<String> after = tracked(newKeywords);
+        for (String keyword : after) {
+            if (!before.contains(keyword)) {
+                adjust(keyword, 1);
+            }
+        }
+        for (String keyword : before) {
+            if (!after.contains(keyword)) {
+                adjust(keyword, -1);
+            }
+        }
+    }
+
+    /**
+     * Return the analysis with its keywords ordered by TF-IDF, highest first
+     */
+    public JobAnalysis rank(JobAnalysis analysis) {
+        SkillTaxonomy taxonomy = skillTaxonomyService.current();
+        Map<String, Integer> termFrequency = analysis.getKeywordFrequency();
+        Map<String, Long> frequency = documentFrequency;
+        double documents = Math.max(documentCount + pendingDocuments.sum(), 0) + 1.0;
+
+        Map<String, Double> scores = new HashMap<>();
+        for (String keyword : analysis.getKeywords()) {
+            double idf = 1.0;
+            if (taxonomy.contains(keyword)) {
+                long df = Math.max(frequency.getOrDefault(keyword, 0L) + pending(keyword), 0);
+                idf = Math.log(documents / (df + 1.0)) + 1.0;
+            }
+            scores.put(keyword, termFrequency.getOrDefault(keyword, 1) * idf);
+        }
+
+        List<String> ranked = new ArrayList<>(analysis.getKeywords());
+        ranked.sort(Comparator.<String>comparingDouble(scores::get).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        return analysis.toBuilder()
+                .keywords(Collections.unmodifiableList(ranked))
+                .build();
+    }
+
+    /**
+     * Push pending deltas to Redis and refresh the ranking snapshot
+     */
+    @Scheduled(fixedDelayString = "${keyword-stats.flush-interval-ms}",
+            initialDelayString = "${keyword-stats.flush-interval-ms}")
+    public void flush() {
+        Map<String, Long> deltas = new HashMap<>();
+        pendingFrequency.forEach((keyword, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(keyword, delta);
+            }
+        });
+        long documentDelta = pendingDocuments.sumThenReset();
+
+        if (!deltas.isEmpty() || documentDelta != 0) {
+            try {
+                List<String> args = new ArrayList<>(deltas.size() * 2 + 1);
+                args.add(String.valueOf(documentDelta));
+                deltas.forEach((keyword, delta) -> {
+                    args.add(keyword);
+                    args.add(String.valueOf(delta));
+                });
+                stringRedisTemplate.execute(FLUSH_SCRIPT, List.of(DOCUMENT_FREQUENCY_KEY, DOCUMENT_COUNT_KEY),
+                        args.toArray());
+                log.debug("Flushed keyword statistics for {} keywords", deltas.size());
+            } catch (Exception e) {
+                // Put the deltas back so they go out with the next flush
+                deltas.forEach(this::adjust);
+                pendingDocuments.add(documentDelta);
+                log.error("Error flushing keyword statistics", e);
+                return;
+            }
+        }
+
+        if (!refreshSnapshot()) {
+            log.warn("Keyword statistics missing in Redis, rebuilding from the database");
+            rebuild();
+        }
+    }
+
+    /**
+     * Recount document frequencies from the jobs table; one replica at a time
+     */
+    @Scheduled(fixedDelayString = "${keyword-stats.rebuild-interval-ms}",
+            initialDelayString = "${keyword-stats.rebuild-interval-ms}")
+    public void rebuild() {
+        String token = UUID.randomUUID().toString();
+        Long started = stringRedisTemplate.execute(BEGIN_REBUILD_SCRIPT, List.of(LOCK_KEY, REBUILD_KEY),
+                token, String.valueOf(rebuildLockMs));
+        if (started == null || started == 0) {
+            log.debug("Keyword statistics rebuild already running elsewhere");
+            return;
+        }
+
+        Map<String, Long> frequency = new HashMap<>();
+        long documents = 0;
+        long afterId = 0L;
+        List<JobSkills> page;
+        do {
+            page = jobRepository.findSkillsAfterId(afterId, PageRequest.of(0, batchSize));
+            for (JobSkills row : page) {
+                documents++;
+                tracked(fromJson(row.getExtractedKeywords())).forEach(keyword -> frequency.merge(keyword, 1L, Long::sum));
+                afterId = row.getId();
+            }
+        } while (page.size() == batchSize);
+
+        Map<String, String> batch = new HashMap<>();
+        for (Map.Entry<String, Long> entry : frequency.entrySet()) {
+            batch.put(entry.getKey(), String.valueOf(entry.getValue()));
+            if (batch.size() == batchSize) {
+                stringRedisTemplate.opsForHash().putAll(REBUILD_KEY, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            stringRedisTemplate.opsForHash().putAll(REBUILD_KEY, batch);
+        }
+
+        Long finished = stringRedisTemplate.execute(FINISH_REBUILD_SCRIPT,
+                List.of(LOCK_KEY, REBUILD_KEY, DOCUMENT_FREQUENCY_KEY, DOCUMENT_COUNT_KEY),
+                token, String.valueOf(documents));
+        if (finished == null || finished == 0) {
+            log.warn("Keyword statistics rebuild outlived its lock, keeping the previous counts");
+            return;
+        }
+        log.info("Rebuilt keyword statistics from {} jobs and {} keywords", documents, frequency.size());
+        refreshSnapshot();
+    }
+
+    /**
+     * Load the merged totals; false if Redis holds no statistics or they could not be read, in
+     * which case callers rebuild them
+     */
+    private boolean refreshSnapshot() {
+        try {
+            String documents = stringRedisTemplate.opsForValue().get(DOCUMENT_COUNT_KEY);
+            if (documents == null) {
+                return false;
+            }
+            Map<Object, Object> stored = stringRedisTemplate.opsForHash().entries(DOCUMENT_FREQUENCY_KEY);
+            Map<String, Long> snapshot = new HashMap<>(stored.size() * 2);
+            stored.forEach((keyword, count) -> snapshot.put((String) keyword, Long.parseLong((String) count)));
+
+            documentFrequency = snapshot;
+            documentCount = Long.parseLong(documents);
+            return true;
+        } catch (Exception e) {
+            log.error("Error loading keyword statistics", e);
+            return false;
+        }
+    }
+
+    /**
+     * Distinct keywords that are canonical skills of the current taxonomy
+     */
+    private Set<String> tracked(Collection<String> keywords) {
+        SkillTaxonomy taxonomy = skillTaxonomyService.current();
+        Set<String> tracked = new HashSet<>();
+        for (String keyword : keywords) {
+            if (taxonomy.contains(keyword)) {
+                tracked.add(keyword);
+            }
+        }
+        return tracked;
+    }
+
+    private List<String> fromJson(String json) {
+        if (json == null || json.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            return Arrays.asList(objectMapper.readValue(json, String[].class));
+        } catch (JsonProcessingException e) {
+            log.error("Error converting JSON to list", e);
+            return Collections.emptyList();
+        }
+    }
+
+    private void adjust(String keyword, long delta) {
+        pendingFrequency.computeIfAbsent(keyword, k -> new LongAdder()).add(delta);
+    }
+
+    private long pending(String keyword) {
+        LongAdder adder = pendingFrequency.get(keyword);
+        return adder != null ? adder.sum() : 0L;
+    }
+}
\ No newline at end of file
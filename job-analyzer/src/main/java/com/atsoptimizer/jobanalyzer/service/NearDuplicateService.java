@@ -0,0 +1,250 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.dto.NearDuplicateResponse;
+import com.atsoptimizer.jobanalyzer.exception.InvalidRequestException;
+import com.atsoptimizer.jobanalyzer.exception.JobNotFoundException;
+import com.atsoptimizer.jobanalyzer.model.ExtractionStatus;
+import com.atsoptimizer.jobanalyzer.model.Job;
+import com.atsoptimizer.jobanalyzer.repository.JobRepository;
+import com.atsoptimizer.jobanalyzer.repository.JobSignature;
+import com.atsoptimizer.jobanalyzer.service.extraction.LshIndex;
+import com.atsoptimizer.jobanalyzer.service.extraction.MinHash;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Near-duplicate detection for re-scraped postings with small edits.
+ *
+ * Every job gets a MinHash signature of its normalised description and requirements when it is
+ * written, stored on the row and added to an in-memory LSH index, so a lookup costs a few bucket
+ * probes and never touches the database. Each replica loads the index at startup and picks up
+ * rows written by other replicas with a periodic incremental sync, which pages on (updatedAt, id)
+ * and starts each pass a little before the newest row it has seen so rows that committed late
+ * are not missed; deletions elsewhere are dropped by the periodic full rebuild. Rows written
+ * before signatures existed are backfilled in small batches without touching updatedAt, so
+ * other replicas see them after their next rebuild.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NearDuplicateService {
+
+    private static final LocalDateTime NEVER = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JobRepository jobRepository;
+    private final SkillTaxonomyService skillTaxonomyService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${near-duplicates.threshold}")
+    private double defaultThreshold;
+
+    @Value("${near-duplicates.max-results}")
+    private int maxResults;
+
+    @Value("${near-duplicates.link-canonical}")
+    private boolean linkCanonical;
+
+    @Value("${near-duplicates.batch-size}")
+    private int batchSize;
+
+    @Value("${near-duplicates.max-candidates}")
+    private int maxCandidates;
+
+    @Value("${near-duplicates.sync-overlap-ms}")
+    private long syncOverlapMs;
+
+    private volatile LshIndex index;
+
+    // Newest updatedAt seen by the sync; rows touched after it are re-read
+    private volatile LocalDateTime syncedUntil = NEVER;
+
+    @PostConstruct
+    public void init() {
+        index = new LshIndex(maxCandidates);
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Error loading near-duplicate index", e);
+        }
+    }
+
+    /**
+     * Signature of a posting's text, or null if it has no words
+     */
+    public int[] signature(String description, String requirements) {
+        return MinHash.signature(ExtractionCacheService.normalize(description) + "\n"
+                + ExtractionCacheService.normalize(requirements));
+    }
+
+    /**
+     * Whether new postings should reuse the extraction results of a near-duplicate
+     */
+    public boolean isLinkingEnabled() {
+        return linkCanonical;
+    }
+
+    /**
+     * Existing job whose extraction results a posting with this signature can reuse, or null.
+     * The canonical job must be fully extracted with the current taxonomy; a match that is
+     * itself linked resolves to its own canonical job.
+     */
+    public Job findCanonical(int[] signature) {
+        if (signature == null) {
+            return null;
+        }
+        String taxonomyVersion = skillTaxonomyService.current().getVersion();
+        for (LshIndex.Match match : index.query(signature, defaultThreshold, maxResults, -1)) {
+            Job candidate = jobRepository.findById(match.getId()).orElse(null);
+            if (candidate != null && candidate.getCanonicalJobId() != null) {
+                candidate = jobRepository.findById(candidate.getCanonicalJobId()).orElse(candidate);
+            }
+            if (candidate != null && isReusable(candidate, taxonomyVersion)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indexed jobs similar to the given one, most similar first
+     */
+    public List<NearDuplicateResponse> findNearDuplicates(Long jobId, Double threshold, Integer limit) {
+        int[] signature = index.signature(jobId);
+        if (signature == null) {
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new JobNotFoundException(jobId));
+            signature = signature(job.getDescription(), job.getRequirements());
+            if (signature == null) {
+                return List.of();
+            }
+        }
+
+        double minimum = threshold != null ? threshold : defaultThreshold;
+        int count = limit != null ? Math.min(limit, maxResults) : maxResults;
+        if (minimum < 0.0 || minimum > 1.0 || count < 1) {
+            throw new InvalidRequestException("Threshold must be between 0 and 1 and limit at least 1");
+        }
+        return index.query(signature, minimum, count, jobId).stream()
+                .map(match -> NearDuplicateResponse.builder()
+                        .jobId(match.getId())
+                        .similarity(match.getSimilarity())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Add or replace a saved job in the index
+     */
+    public void index(Job job) {
+        if (job.getId() == null) {
+            return;
+        }
+        int[] signature = MinHash.fromBytes(job.getMinhashSignature());
+        if (signature != null) {
+            index.put(job.getId(), signature);
+        } else {
+            index.remove(job.getId());
+        }
+    }
+
+    public void remove(Long jobId) {
+        index.remove(jobId);
+    }
+
+    /**
+     * Pick up signatures written by other replicas since the last sync
+     */
+    @Scheduled(fixedDelayString = "${near-duplicates.sync-interval-ms}",
+            initialDelayString = "${near-duplicates.sync-interval-ms}")
+    public void sync() {
+        // Re-read a window before the newest row seen, for transactions that committed after it
+        LocalDateTime since = syncedUntil.equals(NEVER)
+                ? NEVER : syncedUntil.minus(syncOverlapMs, ChronoUnit.MILLIS);
+        long afterId = 0L;
+        List<JobSignature> page;
+        do {
+            page = jobRepository.findSignaturesUpdatedAfter(since, afterId, PageRequest.of(0, batchSize));
+            LshIndex current = index;
+            for (JobSignature row : page) {
+                put(current, row);
+                since = row.getUpdatedAt();
+                afterId = row.getId();
+            }
+        } while (page.size() == batchSize);
+    }
+
+    /**
+     * Reload the whole index so jobs deleted on other replicas drop out
+     */
+    @Scheduled(fixedDelayString = "${near-duplicates.rebuild-interval-ms}",
+            initialDelayString = "${near-duplicates.rebuild-interval-ms}")
+    public void rebuild() {
+        LshIndex rebuilt = new LshIndex(maxCandidates);
+        LocalDateTime previous = syncedUntil;
+        long afterId = 0L;
+        List<JobSignature> page;
+        do {
+            page = jobRepository.findSignaturesAfterId(afterId, PageRequest.of(0, batchSize));
+            for (JobSignature row : page) {
+                put(rebuilt, row);
+                afterId = row.getId();
+            }
+        } while (page.size() == batchSize);
+
+        index = rebuilt;
+        // Rows written elsewhere while the rebuild ran are re-read by the next sync
+        if (!previous.equals(NEVER)) {
+            syncedUntil = previous;
+        }
+        log.info("Near-duplicate index loaded with {} jobs", rebuilt.size());
+    }
+
+    /**
+     * Compute signatures for one batch of jobs saved before signatures existed
+     */
+    @Scheduled(fixedDelayString = "${near-duplicates.sync-interval-ms}",
+            initialDelayString = "${near-duplicates.sync-interval-ms}")
+    public void backfill() {
+        List<Job> jobs = jobRepository.findWithoutSignature(PageRequest.of(0, batchSize));
+        if (jobs.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Job job : jobs) {
+                int[] signature = signature(job.getDescription(), job.getRequirements());
+                // Rows without words get an empty signature so they are not selected again
+                job.setMinhashSignature(signature != null ? MinHash.toBytes(signature) : new byte[0]);
+                jobRepository.updateSignature(job.getId(), job.getMinhashSignature());
+            }
+        });
+        jobs.forEach(this::index);
+        log.info("Backfilled near-duplicate signatures for {} jobs", jobs.size());
+    }
+
+    private void put(LshIndex target, JobSignature row) {
+        int[] signature = MinHash.fromBytes(row.getMinhashSignature());
+        if (signature != null) {
+            target.put(row.getId(), signature);
+        }
+        LocalDateTime updatedAt = row.getUpdatedAt();
+        if (updatedAt != null && updatedAt.isAfter(syncedUntil)) {
+            syncedUntil = updatedAt;
+        }
+    }
+
+    private static boolean isReusable(Job job, String taxonomyVersion) {
+        return (job.getExtractionStatus() == null || job.getExtractionStatus() == ExtractionStatus.COMPLETED)
+                && taxonomyVersion.equals(job.getTaxonomyVersion());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,302 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import opennlp.tools.chunker.ChunkerME;
+import opennlp.tools.chunker.ChunkerModel;
+import opennlp.tools.postag.POSModel;
+import opennlp.tools.postag.POSTaggerME;
+import opennlp.tools.tokenize.TokenizerME;
+import opennlp.tools.tokenize.TokenizerModel;
+import opennlp.tools.util.Span;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Optional OpenNLP stage that extracts noun-phrase keyword candidates beyond the skill taxonomy.
+ *
+ * Models are loaded at startup and are shared, but the ME classes built from them are not
+ * thread-safe. NLP work runs on a small bounded executor; the caller waits at most
+ * nlp.timeout-ms for it, which bounds what the stage adds to a synchronous create. Callers that
+ * must not wait at all use async extraction. When the queue is full or a posting takes too long
+ * the stage is skipped and the result is marked degraded, so callers do not cache it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NlpPipelineService {
+
+    private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?])\\s+|\\R+");
+    private static final int MAX_PHRASE_TOKENS = 4;
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${nlp.enabled}")
+    private boolean enabled;
+
+    @Value("${nlp.pooled}")
+    private boolean pooled;
+
+    @Value("${nlp.tokenizer-model}")
+    private String tokenizerModelLocation;
+
+    @Value("${nlp.pos-model}")
+    private String posModelLocation;
+
+    @Value("${nlp.chunker-model}")
+    private String chunkerModelLocation;
+
+    @Value("${nlp.threads}")
+    private int threads;
+
+    @Value("${nlp.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${nlp.timeout-ms}")
+    private long timeoutMs;
+
+    @Value("${nlp.max-phrases}")
+    private int maxPhrases;
+
+    private volatile Models models;
+    private ThreadPoolExecutor executor;
+
+    // One pipeline per executor thread; the executor is fixed-size, so this is a bounded pool
+    private final ThreadLocal<Pipeline> pipelines = new ThreadLocal<>();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "nlp-pipeline-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // Load before serving so the first calls are not spent inside the timeout loading models
+        try {
+            models();
+        } catch (Exception e) {
+            log.error("Error loading OpenNLP models, disabling NLP pipeline", e);
+            enabled = false;
+            executor.shutdownNow();
+            return;
+        }
+        executor.prestartAllCoreThreads();
+        log.info("NLP pipeline enabled with {} threads (pooled: {})", threads, pooled);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Extract noun-phrase keyword candidates, most frequent first. Blocks for at most
+     * nlp.timeout-ms; returns no phrases when the stage is disabled, and a degraded result
+     * when it is saturated, times out or fails.
+     */
+    public NounPhrases extractNounPhrases(String text) {
+        if (!enabled || text == null || text.isBlank()) {
+            return NounPhrases.NONE;
+        }
+
+        Future<List<String>> future;
+        try {
+            future = executor.submit(() -> nounPhrases(text));
+        } catch (RejectedExecutionException e) {
+            log.warn("NLP pipeline saturated, skipping noun phrase extraction");
+            return NounPhrases.DEGRADED;
+        }
+
+        try {
+            return new NounPhrases(future.get(timeoutMs, TimeUnit.MILLISECONDS), false);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("NLP pipeline timed out after {} ms", timeoutMs);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Error extracting noun phrases", e.getCause());
+        }
+        return NounPhrases.DEGRADED;
+    }
+
+    /**
+     * Run the tokenizer, POS tagger and chunker on the calling thread
+     */
+    List<String> nounPhrases(String text) throws IOException {
+        Pipeline pipeline = pipeline();
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (String sentence : SENTENCE_BOUNDARY.split(text)) {
+            if (sentence.isBlank()) {
+                continue;
+            }
+            String[] tokens = pipeline.tokenizer.tokenize(sentence);
+            String[] tags = pipeline.tagger.tag(tokens);
+            for (Span chunk : pipeline.chunker.chunkAsSpans(tokens, tags)) {
+                if ("NP".equals(chunk.getType())) {
+                    String phrase = toPhrase(tokens, tags, chunk);
+                    if (phrase != null) {
+                        counts.merge(phrase, 1, Integer::sum);
+                    }
+                }
+            }
+        }
+
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(maxPhrases)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Keep the nouns and modifiers of a chunk, dropping determiners, pronouns and punctuation
+     */
+    private String toPhrase(String[] tokens, String[] tags, Span chunk) {
+        List<String> words = new ArrayList<>();
+        boolean hasNoun = false;
+        for (int i = chunk.getStart(); i < chunk.getEnd(); i++) {
+            String tag = tags[i];
+            if (tag.startsWith("NN")) {
+                hasNoun = true;
+                words.add(tokens[i].toLowerCase());
+            } else if (tag.startsWith("JJ") || tag.equals("VBG")) {
+                words.add(tokens[i].toLowerCase());
+            }
+        }
+        if (!hasNoun || words.size() > MAX_PHRASE_TOKENS) {
+            return null;
+        }
+        String phrase = String.join(" ", words);
+        return phrase.length() > 2 ? phrase : null;
+    }
+
+    private Pipeline pipeline() throws IOException {
+        if (!pooled) {
+            return new Pipeline(models());
+        }
+        Pipeline pipeline = pipelines.get();
+        if (pipeline == null) {
+            pipeline = new Pipeline(models());
+            pipelines.set(pipeline);
+        }
+        return pipeline;
+    }
+
+    private Models models() throws IOException {
+        Models loaded = models;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = models;
+                if (loaded == null) {
+                    long start = System.currentTimeMillis();
+                    TokenizerModel tokenizerModel;
+                    POSModel posModel;
+                    ChunkerModel chunkerModel;
+                    try (InputStream in = open(tokenizerModelLocation)) {
+                        tokenizerModel = new TokenizerModel(in);
+                    }
+                    try (InputStream in = open(posModelLocation)) {
+                        posModel = new POSModel(in);
+                    }
+                    try (InputStream in = open(chunkerModelLocation)) {
+                        chunkerModel = new ChunkerModel(in);
+                    }
+                    loaded = new Models(tokenizerModel, posModel, chunkerModel);
+                    models = loaded;
+                    log.info("Loaded OpenNLP models in {} ms", System.currentTimeMillis() - start);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private InputStream open(String location) throws IOException {
+        return resourceLoader.getResource(location).getInputStream();
+    }
+
+    /**
+     * Noun phrases of a posting, and whether the stage was skipped for it
+     */
+    public static final class NounPhrases {
+
+        static final NounPhrases NONE = new NounPhrases(Collections.emptyList(), false);
+        static final NounPhrases DEGRADED = new NounPhrases(Collections.emptyList(), true);
+
+        private final List<String> phrases;
+        private final boolean degraded;
+
+        private NounPhrases(List<String> phrases, boolean degraded) {
+            this.phrases = phrases;
+            this.degraded = degraded;
+        }
+
+        public List<String> getPhrases() {
+            return phrases;
+        }
+
+        public boolean isDegraded() {
+            return degraded;
+        }
+    }
+
+    /**
+     * Thread-safe models shared by every pipeline
+     */
+    private static final class Models {
+
+        private final TokenizerModel tokenizer;
+        private final POSModel tagger;
+        private final ChunkerModel chunker;
+
+        private Models(TokenizerModel tokenizer, POSModel tagger, ChunkerModel chunker) {
+            this.tokenizer = tokenizer;
+            this.tagger = tagger;
+            this.chunker = chunker;
+        }
+    }
+
+    /**
+     * Non thread-safe ME instances, confined to a single thread
+     */
+    private static final class Pipeline {
+
+        private final TokenizerME tokenizer;
+        private final POSTaggerME tagger;
+        private final ChunkerME chunker;
+
+        private Pipeline(Models models) {
+            this.tokenizer = new TokenizerME(models.tokenizer);
+            this.tagger = new POSTaggerME(models.tagger);
+            this.chunker = new ChunkerME(models.chunker);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.dto.SkillSearchResponse;
+import com.atsoptimizer.jobanalyzer.exception.InvalidRequestException;
+import com.atsoptimizer.jobanalyzer.model.Job;
+import com.atsoptimizer.jobanalyzer.repository.JobRepository;
+import com.atsoptimizer.jobanalyzer.repository.JobSkills;
+import com.atsoptimizer.jobanalyzer.service.extraction.SkillBitmapIndex;
+import com.atsoptimizer.jobanalyzer.service.extraction.SkillTaxonomy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Boolean skill search over extracted keywords, required skills and preferred skills.
+ *
+ * Each replica keeps a {@link SkillBitmapIndex} loaded at startup and updated as jobs are
+ * written, so queries never touch the database. Query terms are resolved through the skill
+ * taxonomy, so an alias such as k8s finds jobs indexed under kubernetes. Like the near-duplicate
+ * index, rows written by other replicas are picked up by a periodic incremental sync on an
+ * (updatedAt, id) keyset with an overlap window, and deletions elsewhere by the periodic full
+ * rebuild.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SkillIndexService {
+
+    private static final LocalDateTime NEVER = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+    private final SkillTaxonomyService skillTaxonomyService;
+    private final JobMetrics jobMetrics;
+
+    @Value("${skill-index.batch-size}")
+    private int batchSize;
+
+    @Value("${skill-index.max-results}")
+    private int maxResults;
+
+    @Value("${skill-index.sync-overlap-ms}")
+    private long syncOverlapMs;
+
+    private volatile SkillBitmapIndex index = new SkillBitmapIndex();
+
+    // Newest updatedAt seen by the sync; rows touched after it are re-read
+    private volatile LocalDateTime syncedUntil = NEVER;
+
+    @PostConstruct
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Error loading skill index", e);
+        }
+    }
+
+    /**
+     * Jobs that have every skill in all, at least one skill in any and no skill in none
+     */
+    public SkillSearchResponse search(List<String> all, List<String> any, List<String> none, Integer limit) {
+        return jobMetrics.recordOperation("skill_search", () -> {
+            SkillTaxonomy taxonomy = skillTaxonomyService.current();
+            List<String> required = resolve(taxonomy, all);
+            List<String> alternatives = resolve(taxonomy, any);
+            List<String> excluded = resolve(taxonomy, none);
+            if (required.isEmpty() && alternatives.isEmpty() && excluded.isEmpty()) {
+                throw new InvalidRequestException("At least one of all, any or none is required");
+            }
+            int count = limit != null ? limit : maxResults;
+            if (count < 0 || count > maxResults) {
+                throw new InvalidRequestException("Limit must be between 0 and " + maxResults);
+            }
+
+            SkillBitmapIndex.Result result = index.query(required, alternatives, excluded, count);
+            return SkillSearchResponse.builder()
+                    .count(result.getCount())
+                    .jobIds(result.getJobIds())
+                    .build();
+        });
+    }
+
+    /**
+     * Add or replace a saved job's skills
+     */
+    public void index(Job job) {
+        if (job.getId() == null) {
+            return;
+        }
+        index.put(job.getId(), skills(job.getExtractedKeywords(), job.getRequiredSkills(), job.getPreferredSkills()));
+    }
+
+    public void remove(Long jobId) {
+        index.remove(jobId);
+    }
+
+    /**
+     * Pick up jobs written by other replicas since the last sync
+     */
+    @Scheduled(fixedDelayString = "${skill-index.sync-interval-ms}",
+            initialDelayString = "${skill-index.sync-interval-ms}")
+    public void sync() {
+        // Re-read a window before the newest row seen, for transactions that committed after it
+        LocalDateTime since = syncedUntil.equals(NEVER)
+                ? NEVER : syncedUntil.minus(syncOverlapMs, ChronoUnit.MILLIS);
+        long afterId = 0L;
+        List<JobSkills> page;
+        do {
+            page = jobRepository.findSkillsUpdatedAfter(since, afterId, PageRequest.of(0, batchSize));
+            SkillBitmapIndex current = index;
+            for (JobSkills row : page) {
+                put(current, row);
+                since = row.getUpdatedAt();
+                afterId = row.getId();
+            }
+        } while (page.size() == batchSize);
+    }
+
+    /**
+     * Reload the whole index so jobs deleted on other replicas drop out
+     */
+    @Scheduled(fixedDelayString = "${skill-index.rebuild-interval-ms}",
+            initialDelayString = "${skill-index.rebuild-interval-ms}")
+    public void rebuild() {
+        SkillBitmapIndex rebuilt = new SkillBitmapIndex();
+        LocalDateTime previous = syncedUntil;
+        long afterId = 0L;
+        List<JobSkills> page;
+        do {
+            page = jobRepository.findSkillsAfterId(afterId, PageRequest.of(0, batchSize));
+            for (JobSkills row : page) {
+                put(rebuilt, row);
+                afterId = row.getId();
+            }
+        } while (page.size() == batchSize);
+        rebuilt.optimize();
+
+        index = rebuilt;
+        // Rows written elsewhere while the rebuild ran are re-read by the next sync
+        if (!previous.equals(NEVER)) {
+            syncedUntil = previous;
+        }
+        log.info("Skill index loaded with {} jobs and {} skills", rebuilt.jobCount(), rebuilt.skillCount());
+    }
+
+    private void put(SkillBitmapIndex target, JobSkills row) {
+        target.put(row.getId(), skills(row.getExtractedKeywords(), row.getRequiredSkills(), row.getPreferredSkills()));
+        LocalDateTime updatedAt = row.getUpdatedAt();
+        if (updatedAt != null && updatedAt.isAfter(syncedUntil)) {
+            syncedUntil = updatedAt;
+        }
+    }
+
+    private static List<String> resolve(SkillTaxonomy taxonomy, List<String> terms) {
+        if (terms == null) {
+            return List.of();
+        }
+        return terms.stream()
+                .filter(term -> term != null && !term.isBlank())
+                .map(taxonomy::resolve)
+                .collect(Collectors.toList());
+    }
+
+    private Set<String> skills(String... jsonLists) {
+        Set<String> skills = new HashSet<>();
+        for (String json : jsonLists) {
+            if (json == null || json.isEmpty()) {
+                continue;
+            }
+            try {
+                Collection<String> values = objectMapper.readValue(json,
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+                values.forEach(value -> skills.add(SkillBitmapIndex.normalize(value)));
+            } catch (JsonProcessingException e) {
+                log.error("Error converting JSON to list", e);
+            }
+        }
+        return skills;
+    }
+}
\ No newline at end of file
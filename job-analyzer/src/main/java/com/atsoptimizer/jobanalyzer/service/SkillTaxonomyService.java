@@ -0,0 +1,93 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import com.atsoptimizer.jobanalyzer.service.extraction.SkillDefinition;
+import com.atsoptimizer.jobanalyzer.service.extraction.SkillTaxonomy;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SkillTaxonomyService {
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    @Value("${taxonomy.location}")
+    private String taxonomyLocation;
+
+    private final AtomicReference<SkillTaxonomy> current = new AtomicReference<>();
+
+    private String loadedHash;
+
+    @PostConstruct
+    public void init() {
+        reload();
+        if (current.get() == null) {
+            throw new IllegalStateException("Unable to load skill taxonomy from " + taxonomyLocation);
+        }
+    }
+
+    /**
+     * Current taxonomy snapshot; callers should read it once per extraction
+     */
+    public SkillTaxonomy current() {
+        return current.get();
+    }
+
+    /**
+     * Periodically rebuild the taxonomy off the request path when its source changes
+     */
+    @Scheduled(fixedDelayString = "${taxonomy.refresh-interval-ms}",
+            initialDelayString = "${taxonomy.refresh-interval-ms}")
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * Load, compile and publish the taxonomy if its content changed.
+     * On failure the previous snapshot keeps serving.
+     */
+    public synchronized boolean reload() {
+        try {
+            byte[] content;
+            try (InputStream in = resourceLoader.getResource(taxonomyLocation).getInputStream()) {
+                content = in.readAllBytes();
+            }
+
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+            if (hash.equals(loadedHash)) {
+                return false;
+            }
+
+            JsonNode root = objectMapper.readTree(content);
+            List<SkillDefinition> skills = objectMapper.convertValue(root.path("skills"),
+                    new TypeReference<List<SkillDefinition>>() {});
+            String version = root.path("version").asText("0") + "-" + hash.substring(0, 12);
+
+            SkillTaxonomy taxonomy = SkillTaxonomy.compile(version, skills);
+            current.set(taxonomy);
+            loadedHash = hash;
+
+            log.info("Loaded skill taxonomy version {} with {} skills", version, taxonomy.size());
+            return true;
+        } catch (Exception e) {
+            log.error("Error loading skill taxonomy from: {}", taxonomyLocation, e);
+            return false;
+        }
+    }
+}
\ No newline at end of file
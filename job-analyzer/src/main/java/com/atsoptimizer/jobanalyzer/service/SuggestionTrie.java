@@ -0,0 +1,136 @@
+package com.atsoptimizer.jobanalyzer.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Prefix trie over the most frequent values of one field, with counts of the jobs using each.
+ *
+ * Every node keeps its own short list of the most frequent values below it, so a lookup walks
+ * the prefix and copies that list without visiting the subtree. Only the first maxDepth
+ * characters are indexed. Counts are adjusted in place on writes; a value whose count drops
+ * leaves a gap in its nodes' lists that the next rebuild fills.
+ */
+final class SuggestionTrie {
+
+    private static final Comparator<Suggestion> BY_COUNT = Comparator.comparingLong(Suggestion::count).reversed()
+            .thenComparing(Suggestion::value);
+
+    private final int maxDepth;
+    private final int suggestionsPerNode;
+    private final Node root = new Node();
+    private final Map<String, Long> counts = new HashMap<>();
+
+    SuggestionTrie(int maxDepth, int suggestionsPerNode) {
+        this.maxDepth = maxDepth;
+        this.suggestionsPerNode = suggestionsPerNode;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Change the number of jobs using a value
+     */
+    synchronized void adjust(String value, long delta) {
+        if (value == null || value.isBlank() || delta == 0) {
+            return;
+        }
+        long count = Math.max(counts.getOrDefault(value, 0L) + delta, 0L);
+        if (count == 0) {
+            counts.remove(value);
+        } else {
+            counts.put(value, count);
+        }
+
+        Suggestion suggestion = new Suggestion(value, count);
+        String key = normalize(value);
+        Node node = root;
+        for (int i = 0; i < Math.min(key.length(), maxDepth); i++) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                if (count == 0) {
+                    return;
+                }
+                child = new Node();
+                node.children.put(key.charAt(i), child);
+            }
+            node = child;
+            node.offer(suggestion, suggestionsPerNode);
+        }
+    }
+
+    /**
+     * Most frequent values starting with the prefix, or null if the trie cannot tell: the prefix
+     * is longer than the indexed depth or fewer than limit values are known below it
+     */
+    synchronized List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || key.length() > maxDepth) {
+            return null;
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null || node.top.size() < limit) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            values.add(node.top.get(i).value());
+        }
+        return values;
+    }
+
+    private static final class Suggestion {
+
+        private final String value;
+        private final long count;
+
+        Suggestion(String value, long count) {
+            this.value = value;
+            this.count = count;
+        }
+
+        String value() {
+            return value;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Suggestion> top = new ArrayList<>(0);
+
+        /**
+         * Replace the value's entry with its new count, keeping the list sorted and bounded
+         */
+        void offer(Suggestion suggestion, int capacity) {
+            top.removeIf(existing -> existing.value().equals(suggestion.value()));
+            if (suggestion.count() == 0) {
+                return;
+            }
+            if (top.size() >= capacity && BY_COUNT.compare(suggestion, top.get(top.size() - 1)) >= 0) {
+                return;
+            }
+            int index = 0;
+            while (index < top.size() && BY_COUNT.compare(top.get(index), suggestion) < 0) {
+                index++;
+            }
+            top.add(index, suggestion);
+            if (top.size() > capacity) {
+                top.remove(top.size() - 1);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable result of analysing a job posting in one pass
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class JobAnalysis {
+
+    @Builder.Default
+    List<String> keywords = Collections.emptyList();
+
+    @Builder.Default
+    List<String> phrases = Collections.emptyList();
+
+    @Builder.Default
+    List<String> requiredSkills = Collections.emptyList();
+
+    @Builder.Default
+    List<String> preferredSkills = Collections.emptyList();
+
+    String experienceLevel;
+
+    double experienceConfidence;
+
+    String educationLevel;
+
+    double educationConfidence;
+
+    @Builder.Default
+    Map<String, Integer> keywordFrequency = Collections.emptyMap();
+
+    String taxonomyVersion;
+
+    // The optional NLP stage was skipped, so phrases are missing and the result is not cached
+    boolean degraded;
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled classifier that maps a posting to one of a fixed set of levels.
+ *
+ * All rules are compiled into a single alternation, so every level is scored in one pass
+ * over the text. Each rule only matches whole words, and the level with the most hits wins.
+ * Ties go to the rule that was registered first, so the outcome never depends on map order.
+ */
+public final class LevelClassifier {
+
+    private static final String WORD_BEFORE = "(?<![\\p{L}\\p{N}])";
+    private static final String WORD_AFTER = "(?![\\p{L}\\p{N}])";
+
+    private final String[] levels;
+    private final String[] groupNames;
+    private final Pattern pattern;
+    private final String fallback;
+
+    /**
+     * Winning level and the share of all level hits that supported it
+     */
+    public static final class Classification {
+
+        private final String level;
+        private final double confidence;
+
+        Classification(String level, double confidence) {
+            this.level = level;
+            this.confidence = confidence;
+        }
+
+        public String getLevel() {
+            return level;
+        }
+
+        public double getConfidence() {
+            return confidence;
+        }
+    }
+
+    private LevelClassifier(List<String> levels, List<String> regexes, String fallback) {
+        this.levels = levels.toArray(new String[0]);
+        this.groupNames = new String[levels.size()];
+        this.fallback = fallback;
+
+        StringBuilder alternation = new StringBuilder();
+        for (int i = 0; i < regexes.size(); i++) {
+            groupNames[i] = "r" + i;
+            if (i > 0) {
+                alternation.append('|');
+            }
+            alternation.append("(?<").append(groupNames[i]).append('>')
+                    .append(WORD_BEFORE).append("(?:").append(regexes.get(i)).append(')').append(WORD_AFTER)
+                    .append(')');
+        }
+        this.pattern = Pattern.compile(alternation.toString());
+    }
+
+    public static Builder builder(String fallback) {
+        return new Builder(fallback);
+    }
+
+    /**
+     * Score every level in one pass and return the strongest
+     */
+    public Classification classify(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return new Classification(fallback, 0.0);
+        }
+
+        int[] scores = new int[levels.length];
+        int total = 0;
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            for (int i = 0; i < groupNames.length; i++) {
+                if (matcher.start(groupNames[i]) != -1) {
+                    scores[i]++;
+                    total++;
+                    break;
+                }
+            }
+        }
+
+        int best = -1;
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] > 0 && (best == -1 || scores[i] > scores[best])) {
+                best = i;
+            }
+        }
+        if (best == -1) {
+            return new Classification(fallback, 0.0);
+        }
+        return new Classification(levels[best], (double) scores[best] / total);
+    }
+
+    public static final class Builder {
+
+        private final String fallback;
+        private final List<String> levels = new ArrayList<>();
+        private final List<String> regexes = new ArrayList<>();
+
+        private Builder(String fallback) {
+            this.fallback = fallback;
+        }
+
+        /**
+         * Add a rule; earlier rules win ties. The regex is matched as a whole word and may use
+         * inline flags such as (?i:...) to choose case sensitivity per alternative.
+         */
+        public Builder rule(String level, String regex) {
+            levels.add(level);
+            regexes.add(regex);
+            return this;
+        }
+
+        public LevelClassifier build() {
+            return new LevelClassifier(levels, regexes, fallback);
+        }
+    }
+}
\ No newline at end of file
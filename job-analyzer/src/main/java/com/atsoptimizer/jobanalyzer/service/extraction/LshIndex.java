@@ -0,0 +1,175 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory locality-sensitive hashing index over MinHash signatures.
+ *
+ * A signature is cut into bands of consecutive rows and every band is hashed to a bucket, so two
+ * postings become candidates when they agree on all rows of at least one band. With 32 bands of
+ * 4 rows, pairs above 0.6 Jaccard similarity collide with over 98% probability while pairs
+ * below 0.2 rarely do. Candidates are then scored against their stored signatures, so a query touches only
+ * a handful of buckets regardless of the number of indexed jobs. Buckets grow in place, and a query
+ * scores at most maxCandidates distinct ids, so a boilerplate band shared by thousands of postings
+ * costs neither a copy per insert nor a full scan per lookup.
+ */
+public final class LshIndex {
+
+    public static final int BANDS = 32;
+    public static final int ROWS = MinHash.SIGNATURE_LENGTH / BANDS;
+
+    private final int maxCandidates;
+
+    private final ConcurrentHashMap<Long, int[]> signatures = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public LshIndex(int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * An indexed job and its estimated similarity to the query
+     */
+    public static final class Match {
+
+        private final long id;
+        private final double similarity;
+
+        Match(long id, double similarity) {
+            this.id = id;
+            this.similarity = similarity;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+    }
+
+    /**
+     * Add or replace the signature of an id
+     */
+    public void put(long id, int[] signature) {
+        int[] previous = signatures.put(id, signature);
+        if (previous != null) {
+            if (Arrays.equals(previous, signature)) {
+                return;
+            }
+            removeFromBuckets(id, previous);
+        }
+        for (int band = 0; band < BANDS; band++) {
+            buckets.compute(bucket(signature, band), (key, ids) -> {
+                Bucket grown = ids != null ? ids : new Bucket();
+                grown.add(id);
+                return grown;
+            });
+        }
+    }
+
+    public void remove(long id) {
+        int[] previous = signatures.remove(id);
+        if (previous != null) {
+            removeFromBuckets(id, previous);
+        }
+    }
+
+    public int[] signature(long id) {
+        return signatures.get(id);
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    /**
+     * Indexed ids whose estimated similarity is at least the threshold, most similar first.
+     * Only the first maxCandidates distinct ids found in the query's buckets are scored.
+     */
+    public List<Match> query(int[] signature, double threshold, int limit, long excludeId) {
+        Set<Long> seen = new HashSet<>();
+        List<Match> matches = new ArrayList<>();
+        for (int band = 0; band < BANDS && seen.size() < maxCandidates; band++) {
+            Bucket bucket = buckets.get(bucket(signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (long id : bucket.ids(maxCandidates - seen.size() + 1)) {
+                if (seen.size() >= maxCandidates) {
+                    break;
+                }
+                if (id == excludeId || !seen.add(id)) {
+                    continue;
+                }
+                int[] candidate = signatures.get(id);
+                if (candidate == null) {
+                    continue;
+                }
+                double similarity = MinHash.similarity(signature, candidate);
+                if (similarity >= threshold) {
+                    matches.add(new Match(id, similarity));
+                }
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::getSimilarity).reversed()
+                .thenComparingLong(Match::getId));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private void removeFromBuckets(long id, int[] signature) {
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfPresent(bucket(signature, band), (key, ids) -> ids.remove(id) ? null : ids);
+        }
+    }
+
+    private static long bucket(int[] signature, int band) {
+        long hash = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = MinHash.mix(hash * 31 + signature[row]);
+        }
+        return hash;
+    }
+
+    /**
+     * Growable list of the ids in one bucket. Writers hold the map's lock for the bucket key;
+     * the monitor only guards readers copying ids out while a writer grows or shrinks it.
+     */
+    private static final class Bucket {
+
+        private long[] ids = new long[2];
+        private int size;
+
+        // put() takes an id out of its old buckets first, so an id is never added twice
+        synchronized void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Remove an id by moving the last one into its slot; returns whether the bucket is empty
+         */
+        synchronized boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    break;
+                }
+            }
+            return size == 0;
+        }
+
+        synchronized long[] ids(int limit) {
+            return Arrays.copyOf(ids, Math.min(size, Math.max(limit, 0)));
+        }
+    }
+}
\ No newline at end of file
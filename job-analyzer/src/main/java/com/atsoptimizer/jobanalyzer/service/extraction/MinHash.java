@@ -0,0 +1,141 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * MinHash signatures over word shingles, for estimating the Jaccard similarity of two postings.
+ *
+ * Text is split into lowercase letter/digit tokens and every run of three consecutive tokens
+ * becomes a 64-bit shingle hash. Each of the signature's hash functions is a seeded 64-bit mix
+ * of the shingle, and the signature keeps the high 32 bits of each function's minimum. The share
+ * of equal positions in two signatures estimates the Jaccard similarity of their shingle sets.
+ */
+public final class MinHash {
+
+    public static final int SIGNATURE_LENGTH = 128;
+
+    private static final int SHINGLE_SIZE = 3;
+    private static final long[] SEEDS = seeds(SIGNATURE_LENGTH);
+
+    private MinHash() {
+    }
+
+    /**
+     * Signature of the text, or null if it contains no tokens
+     */
+    public static int[] signature(CharSequence text) {
+        long[] minimums = new long[SIGNATURE_LENGTH];
+        Arrays.fill(minimums, Long.MAX_VALUE);
+
+        long[] window = new long[SHINGLE_SIZE];
+        int tokens = 0;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            // FNV-1a over the lowercased token
+            long hash = 0xcbf29ce484222325L;
+            while (i < length && Character.isLetterOrDigit(text.charAt(i))) {
+                hash ^= Character.toLowerCase(text.charAt(i));
+                hash *= 0x100000001b3L;
+                i++;
+            }
+            window[tokens % SHINGLE_SIZE] = hash;
+            tokens++;
+            if (tokens >= SHINGLE_SIZE) {
+                add(minimums, shingle(window, tokens));
+            }
+        }
+        if (tokens == 0) {
+            return null;
+        }
+        if (tokens < SHINGLE_SIZE) {
+            // Too short for a full shingle; the whole text is one shingle
+            add(minimums, shingle(window, tokens));
+        }
+
+        int[] signature = new int[SIGNATURE_LENGTH];
+        for (int k = 0; k < SIGNATURE_LENGTH; k++) {
+            signature[k] = (int) (minimums[k] >>> 32);
+        }
+        return signature;
+    }
+
+    /**
+     * Estimated Jaccard similarity of the texts behind two signatures
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int k = 0; k < SIGNATURE_LENGTH; k++) {
+            if (a[k] == b[k]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_LENGTH;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    /**
+     * Decode a stored signature, or null if it is missing or has the wrong length
+     */
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SIGNATURE_LENGTH * Integer.BYTES) {
+            return null;
+        }
+        int[] signature = new int[SIGNATURE_LENGTH];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    /**
+     * Order-sensitive hash of the last tokens in the window
+     */
+    private static long shingle(long[] window, int tokens) {
+        int size = Math.min(tokens, SHINGLE_SIZE);
+        long hash = 0;
+        for (int k = 0; k < size; k++) {
+            long token = window[(tokens - size + k) % SHINGLE_SIZE];
+            hash = Long.rotateLeft(hash, 21) ^ mix(token);
+        }
+        return hash;
+    }
+
+    private static void add(long[] minimums, long shingle) {
+        for (int k = 0; k < SIGNATURE_LENGTH; k++) {
+            long value = mix(shingle ^ SEEDS[k]);
+            if (value < minimums[k]) {
+                minimums[k] = value;
+            }
+        }
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    private static long[] seeds(int count) {
+        long[] seeds = new long[count];
+        long state = 0x5deece66dL;
+        for (int k = 0; k < count; k++) {
+            state += 0x9e3779b97f4a7c15L;
+            seeds[k] = mix(state);
+        }
+        return seeds;
+    }
+}
\ No newline at end of file
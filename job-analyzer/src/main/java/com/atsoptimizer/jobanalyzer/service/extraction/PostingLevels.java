@@ -0,0 +1,36 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+/**
+ * Experience and education level rules applied to job postings.
+ */
+public final class PostingLevels {
+
+    public static final String NOT_SPECIFIED = "Not Specified";
+
+    // Most senior first so that ties favour the higher level. Mentoring juniors is a senior
+    // duty, so "mentor junior engineers" counts as senior rather than entry level
+    public static final LevelClassifier EXPERIENCE = LevelClassifier.builder(NOT_SPECIFIED)
+            .rule("Staff", "(?i:staff|architect|distinguished)")
+            .rule("Senior", "(?i:senior|lead|principal|(?:[5-9]|\\d{2})\\+ years?"
+                    + "|(?:mentor|coach|guid)\\p{L}* (?:\\p{L}+ )?(?:junior|entry-level))")
+            .rule("Mid", "(?i:mid-level|mid|intermediate|2-5 years?|3-5 years?)")
+            .rule("Entry", "(?i:junior|entry-level|entry|graduate|0-2 years?)")
+            .build();
+
+    // Two-letter degree abbreviations only count in upper case and followed by degree context,
+    // as in "MS in", "BS degree", "BS/MS" or "BA or MA", so state codes ("Boston, MA"),
+    // Microsoft products ("MS Office") and all-caps prose ("AS NEEDED") are not taken for
+    // degrees. A bare "master" needs degree context too, which keeps out "Scrum Master"
+    private static final String DEGREE_CONTEXT = "(?=[ -](?i:in|degree|or equivalent)\\b|/|,? or [A-Z]{2}\\b|\\))";
+
+    public static final LevelClassifier EDUCATION = LevelClassifier.builder(NOT_SPECIFIED)
+            .rule("Bachelor's", "(?i:bachelor'?s?|b\\.s\\.|b\\.a\\.|bsc)|(?:BS|BA)" + DEGREE_CONTEXT)
+            .rule("Master's", "(?i:(?<!scrum )(?:master'?s|master(?= degree| of| in ))|m\\.s\\.|m\\.a\\.|mba|msc)"
+                    + "|(?:MS|MA)" + DEGREE_CONTEXT)
+            .rule("PhD", "(?i:phd|ph\\.d\\.|doctorate)")
+            .rule("Associate", "(?i:associate'?s? degree|a\\.a\\.|a\\.s\\.)|(?:AA|AS)" + DEGREE_CONTEXT)
+            .build();
+
+    private PostingLevels() {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,377 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits a posting into headed sections, lines and sentences and assigns each a scope.
+ *
+ * A heading such as "Requirements:" or "Nice to have" sets the scope of everything below it
+ * until the next heading. A line is a heading when it ends with a colon, starts with '#' or
+ * consists only of known heading phrases, so a skill-only line such as "SQL" never is. Within
+ * any section a sentence or bullet that carries its own indicator ("... is a plus", "must have
+ * ...") overrides the section scope for that sentence only. Indicator phrases are found with a
+ * single word-bounded scan of the text.
+ */
+public final class PostingSegmenter {
+
+    public enum Scope {
+        REQUIRED, PREFERRED, NEUTRAL
+    }
+
+    private static final String REQUIRED = "required";
+    private static final String PREFERRED = "preferred";
+    // Only meaningful as a heading, e.g. "Qualifications" on its own line
+    private static final String REQUIRED_HEADING = "required-heading";
+    // Headings of sections without a scope, e.g. "Responsibilities"
+    private static final String NEUTRAL_HEADING = "neutral-heading";
+
+    private static final int MAX_HEADING_LENGTH = 80;
+    private static final int MAX_INLINE_HEADING_LENGTH = 40;
+
+    // Words that may join heading phrases, as in "Requirements and Qualifications"
+    private static final Set<String> HEADING_CONNECTORS = Set.of("and", "or", "the");
+
+    private static final SkillMatcher INDICATORS = SkillMatcher.compile(indicatorTerms());
+
+    private PostingSegmenter() {
+    }
+
+    /**
+     * Scope lookup over ordered, non-overlapping segments
+     */
+    public static final class Segments {
+
+        private final int[] starts;
+        private final Scope[] scopes;
+
+        private Segments(int[] starts, Scope[] scopes) {
+            this.starts = starts;
+            this.scopes = scopes;
+        }
+
+        /**
+         * Scope of the segment containing the given offset
+         */
+        public Scope scopeAt(int offset) {
+            int index = Arrays.binarySearch(starts, offset);
+            if (index < 0) {
+                index = -index - 2;
+            }
+            return index < 0 ? Scope.NEUTRAL : scopes[index];
+        }
+    }
+
+    /**
+     * Segment text where everything is neutral until a heading or indicator says otherwise
+     */
+    public static Segments segment(CharSequence text) {
+        return segment(text, text.length());
+    }
+
+    /**
+     * Segment text where lines starting at or after requirementsStart open in a required section,
+     * as they come from the posting's dedicated requirements field
+     */
+    public static Segments segment(CharSequence text, int requirementsStart) {
+        int length = text.length();
+
+        Hits hits = Hits.find(text);
+
+        SegmentBuilder segments = new SegmentBuilder();
+        Scope section = Scope.NEUTRAL;
+        boolean inRequirements = false;
+
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineEnd(text, lineStart);
+
+            if (!inRequirements && lineStart >= requirementsStart) {
+                inRequirements = true;
+                section = Scope.REQUIRED;
+            }
+
+            int contentStart = skipWhitespace(text, lineStart, lineEnd);
+            int contentEnd = trimEnd(text, contentStart, lineEnd);
+            if (contentStart < contentEnd) {
+                int headingEnd = headingEnd(text, contentStart, contentEnd, hits);
+                // Within the requirements field a heading without indicators stays required
+                Scope unmarked = inRequirements ? Scope.REQUIRED : Scope.NEUTRAL;
+                if (headingEnd == contentEnd) {
+                    section = headingScope(hits, contentStart, contentEnd, unmarked);
+                    segments.add(lineStart, section);
+                } else {
+                    if (headingEnd > contentStart) {
+                        // Inline heading such as "Nice to have: Go, Rust"
+                        section = headingScope(hits, contentStart, headingEnd, unmarked);
+                    }
+                    addSentences(text, lineStart, lineEnd, section, hits, segments);
+                }
+            }
+
+            lineStart = lineEnd + 1;
+        }
+
+        return segments.build();
+    }
+
+    private static void addSentences(CharSequence text, int from, int to, Scope section,
+                                     Hits hits, SegmentBuilder segments) {
+        int sentenceStart = from;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            boolean terminal = (c == '.' || c == '!' || c == '?' || c == ';')
+                    && (i + 1 == to || Character.isWhitespace(text.charAt(i + 1)));
+            if (terminal || i + 1 == to) {
+                segments.add(sentenceStart, sentenceScope(hits, sentenceStart, i + 1, section));
+                sentenceStart = i + 1;
+            }
+        }
+    }
+
+    private static Scope sentenceScope(Hits hits, int from, int to, Scope section) {
+        boolean required = false;
+        for (int i = hits.first(from); i < hits.count && hits.starts[i] < to; i++) {
+            if (PREFERRED.equals(hits.labels[i])) {
+                return Scope.PREFERRED;
+            }
+            required |= REQUIRED.equals(hits.labels[i]);
+        }
+        return required ? Scope.REQUIRED : section;
+    }
+
+    private static Scope headingScope(Hits hits, int from, int to, Scope unmarked) {
+        boolean required = false;
+        boolean neutral = false;
+        for (int i = hits.first(from); i < hits.count && hits.starts[i] < to; i++) {
+            if (PREFERRED.equals(hits.labels[i])) {
+                return Scope.PREFERRED;
+            }
+            if (NEUTRAL_HEADING.equals(hits.labels[i])) {
+                neutral = true;
+            } else {
+                required = true;
+            }
+        }
+        if (required) {
+            return Scope.REQUIRED;
+        }
+        return neutral ? Scope.NEUTRAL : unmarked;
+    }
+
+    /**
+     * End offset of the heading part of a line: the whole line for a heading line,
+     * the text before the colon for an inline heading, or the line start if there is none
+     */
+    private static int headingEnd(CharSequence text, int from, int to, Hits hits) {
+        char first = text.charAt(from);
+        char last = text.charAt(to - 1);
+        int lineLength = to - from;
+
+        if (first == '#') {
+            return to;
+        }
+        if (isBullet(first)) {
+            return from;
+        }
+        if (last == ':' && lineLength <= MAX_HEADING_LENGTH) {
+            return to;
+        }
+        if (lineLength <= MAX_HEADING_LENGTH && isHeadingPhrase(text, from, to, hits)) {
+            return to;
+        }
+
+        for (int i = from; i < Math.min(to, from + MAX_INLINE_HEADING_LENGTH); i++) {
+            if (text.charAt(i) == ':') {
+                return hits.any(from, i) ? i + 1 : from;
+            }
+        }
+        return from;
+    }
+
+    private static boolean isBullet(char c) {
+        return c == '-' || c == '*' || c == '\u2022' || c == '\u00B7' || c == '\u25AA';
+    }
+
+    /**
+     * Whether the line is made up only of indicator phrases and connecting words, such as
+     * "Nice to have" or "Requirements and Qualifications" but not "Python is a plus"
+     */
+    private static boolean isHeadingPhrase(CharSequence text, int from, int to, Hits hits) {
+        boolean phrase = false;
+        int i = from;
+        while (i < to) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                i++;
+                continue;
+            }
+            int hitEnd = hits.longestAt(i);
+            if (hitEnd > i) {
+                phrase = true;
+                i = hitEnd;
+                continue;
+            }
+            int wordEnd = i;
+            while (wordEnd < to && Character.isLetterOrDigit(text.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            if (!HEADING_CONNECTORS.contains(text.subSequence(i, wordEnd).toString().toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+            i = wordEnd;
+        }
+        return phrase;
+    }
+
+    private static int lineEnd(CharSequence text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    private static int skipWhitespace(CharSequence text, int from, int to) {
+        while (from < to && Character.isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(CharSequence text, int from, int to) {
+        while (to > from && Character.isWhitespace(text.charAt(to - 1))) {
+            to--;
+        }
+        return to;
+    }
+
+    private static Map<String, String> indicatorTerms() {
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (String term : new String[]{
+                "preferred", "preferred qualifications", "nice to have", "nice-to-have", "good to have",
+                "bonus", "bonus points", "a plus", "is a plus", "big plus", "desired", "desirable",
+                "ideally", "optional"}) {
+            terms.put(term, PREFERRED);
+        }
+        for (String term : new String[]{
+                "required", "must have", "must-have", "must", "mandatory", "essential"}) {
+            terms.put(term, REQUIRED);
+        }
+        for (String term : new String[]{
+                "requirements", "qualifications", "minimum qualifications", "basic qualifications",
+                "what you need", "what you'll need", "what you will need", "what we're looking for",
+                "who you are", "you have", "skills"}) {
+            terms.put(term, REQUIRED_HEADING);
+        }
+        for (String term : new String[]{
+                "responsibilities", "key responsibilities", "duties", "what you'll do", "what you will do",
+                "about the role", "about us", "about the team", "about the company", "overview",
+                "job description", "benefits", "perks", "what we offer", "compensation"}) {
+            terms.put(term, NEUTRAL_HEADING);
+        }
+        return terms;
+    }
+
+    /**
+     * Indicator hits in start offset order
+     */
+    private static final class Hits {
+
+        private final int[] starts;
+        private final int[] ends;
+        private final String[] labels;
+        private final int count;
+
+        private Hits(int[] starts, int[] ends, String[] labels, int count) {
+            this.starts = starts;
+            this.ends = ends;
+            this.labels = labels;
+            this.count = count;
+        }
+
+        /**
+         * Find every indicator phrase in one pass. The matcher reports by end offset,
+         * so hits are packed as (start, length, label) and sorted by start.
+         */
+        static Hits find(CharSequence text) {
+            long[][] packed = {new long[16]};
+            int[] size = {0};
+            INDICATORS.scan(text, (labelId, start, end) -> {
+                if (size[0] == packed[0].length) {
+                    packed[0] = Arrays.copyOf(packed[0], size[0] * 2);
+                }
+                packed[0][size[0]++] = ((long) start << 32) | ((long) (end - start) << 8) | labelId;
+            });
+
+            long[] sorted = Arrays.copyOf(packed[0], size[0]);
+            Arrays.sort(sorted);
+            int[] starts = new int[sorted.length];
+            int[] ends = new int[sorted.length];
+            String[] labels = new String[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                starts[i] = (int) (sorted[i] >>> 32);
+                ends[i] = starts[i] + (int) ((sorted[i] >>> 8) & 0xFFFFFF);
+                labels[i] = INDICATORS.skill((int) (sorted[i] & 0xFF));
+            }
+            return new Hits(starts, ends, labels, sorted.length);
+        }
+
+        int first(int from) {
+            int index = Arrays.binarySearch(starts, 0, count, from);
+            if (index < 0) {
+                return -index - 1;
+            }
+            // Several phrases can start at the same offset
+            while (index > 0 && starts[index - 1] == from) {
+                index--;
+            }
+            return index;
+        }
+
+        boolean any(int from, int to) {
+            int index = first(from);
+            return index < count && starts[index] < to;
+        }
+
+        /**
+         * End of the longest phrase starting exactly at the offset, or the offset if none does
+         */
+        int longestAt(int offset) {
+            int end = offset;
+            for (int i = first(offset); i < count && starts[i] == offset; i++) {
+                end = Math.max(end, ends[i]);
+            }
+            return end;
+        }
+    }
+
+    private static final class SegmentBuilder {
+
+        private int[] starts = new int[16];
+        private Scope[] scopes = new Scope[16];
+        private int size;
+
+        void add(int start, Scope scope) {
+            // Merge runs of the same scope
+            if (size > 0 && scopes[size - 1] == scope) {
+                return;
+            }
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                scopes = Arrays.copyOf(scopes, size * 2);
+            }
+            starts[size] = start;
+            scopes[size] = scope;
+            size++;
+        }
+
+        Segments build() {
+            return new Segments(Arrays.copyOf(starts, size), Arrays.copyOf(scopes, size));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from skill to a compressed bitmap of the jobs that mention it.
+ *
+ * Boolean skill queries become bitmap intersections, unions and differences, which touch
+ * compressed 64K-id containers instead of individual jobs. AND starts from the rarest skill.
+ * Re-indexing a job first clears it from the skills it was indexed under, which the index
+ * remembers per job, so callers never need its previous skills and a write touches only those
+ * bitmaps. Writes take an exclusive lock and queries a shared one.
+ */
+public final class SkillBitmapIndex {
+
+    private final Map<String, Roaring64NavigableMap> jobsBySkill = new HashMap<>();
+    private final Map<Long, String[]> skillsByJob = new HashMap<>();
+    private final Roaring64NavigableMap jobs = new Roaring64NavigableMap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Result of a query: how many jobs matched and the highest matching ids
+     */
+    public static final class Result {
+
+        private final long count;
+        private final List<Long> jobIds;
+
+        Result(long count, List<Long> jobIds) {
+            this.count = count;
+            this.jobIds = jobIds;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public List<Long> getJobIds() {
+            return jobIds;
+        }
+    }
+
+    public static String normalize(String skill) {
+        return skill.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Add or replace a job's skills; a job without skills is dropped
+     */
+    public void put(long jobId, Collection<String> skills) {
+        lock.writeLock().lock();
+        try {
+            clear(jobId);
+            if (skills.isEmpty()) {
+                return;
+            }
+            jobs.addLong(jobId);
+            String[] indexed = skills.stream().map(SkillBitmapIndex::normalize).distinct().toArray(String[]::new);
+            skillsByJob.put(jobId, indexed);
+            for (String skill : indexed) {
+                jobsBySkill.computeIfAbsent(skill, key -> new Roaring64NavigableMap()).addLong(jobId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long jobId) {
+        lock.writeLock().lock();
+        try {
+            clear(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Jobs with every skill in all, at least one in any and none in none; empty lists are
+     * ignored. Returns up to limit ids, highest first.
+     */
+    public Result query(Collection<String> all, Collection<String> any, Collection<String> none, int limit) {
+        lock.readLock().lock();
+        try {
+            Roaring64NavigableMap matches = new Roaring64NavigableMap();
+            if (!all.isEmpty()) {
+                List<Roaring64NavigableMap> required = new ArrayList<>(all.size());
+                for (String skill : all) {
+                    Roaring64NavigableMap bitmap = jobsBySkill.get(normalize(skill));
+                    if (bitmap == null) {
+                        return new Result(0, List.of());
+                    }
+                    required.add(bitmap);
+                }
+                required.sort(Comparator.comparingLong(Roaring64NavigableMap::getLongCardinality));
+                matches.or(required.get(0));
+                for (int i = 1; i < required.size() && !matches.isEmpty(); i++) {
+                    matches.and(required.get(i));
+                }
+            } else if (any.isEmpty()) {
+                matches.or(jobs);
+            }
+
+            if (!any.isEmpty()) {
+                Roaring64NavigableMap union = new Roaring64NavigableMap();
+                for (String skill : any) {
+                    Roaring64NavigableMap bitmap = jobsBySkill.get(normalize(skill));
+                    if (bitmap != null) {
+                        union.or(bitmap);
+                    }
+                }
+                if (all.isEmpty()) {
+                    matches = union;
+                } else {
+                    matches.and(union);
+                }
+            }
+
+            for (String skill : none) {
+                Roaring64NavigableMap bitmap = jobsBySkill.get(normalize(skill));
+                if (bitmap != null && !matches.isEmpty()) {
+                    matches.andNot(bitmap);
+                }
+            }
+
+            List<Long> jobIds = new ArrayList<>(Math.min(limit, 1024));
+            LongIterator iterator = matches.getReverseLongIterator();
+            while (iterator.hasNext() && jobIds.size() < limit) {
+                jobIds.add(iterator.next());
+            }
+            return new Result(matches.getLongCardinality(), jobIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compress runs of consecutive ids; worth calling after a bulk load
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            jobsBySkill.values().forEach(Roaring64NavigableMap::runOptimize);
+            jobs.runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long jobCount() {
+        lock.readLock().lock();
+        try {
+            return jobs.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int skillCount() {
+        lock.readLock().lock();
+        try {
+            return jobsBySkill.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clear(long jobId) {
+        String[] indexed = skillsByJob.remove(jobId);
+        if (indexed == null) {
+            return;
+        }
+        jobs.removeLong(jobId);
+        for (String skill : indexed) {
+            Roaring64NavigableMap bitmap = jobsBySkill.get(skill);
+            if (bitmap != null) {
+                bitmap.removeLong(jobId);
+                if (bitmap.isEmpty()) {
+                    jobsBySkill.remove(skill);
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
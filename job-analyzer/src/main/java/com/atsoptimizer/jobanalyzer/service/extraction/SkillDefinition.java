@@ -0,0 +1,22 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A canonical skill in the taxonomy together with the aliases that map to it
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillDefinition {
+
+    private String name;
+
+    private String category;
+
+    private List<String> aliases;
+}
\ No newline at end of file
@@ -0,0 +1,259 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiled Aho-Corasick automaton over a skill dictionary.
+ *
+ * Finds every dictionary term in a single linear pass over the text, independent of
+ * how many terms are in the dictionary. Matching is case-insensitive and only reports
+ * occurrences that sit on word boundaries, so "go" does not match inside "good".
+ * Instances are immutable and safe to share between threads.
+ */
+public final class SkillMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NO_STATE = -1;
+    private static final int ASCII_LIMIT = 128;
+
+    private final String[] skills;
+    private final int[] termSkill;
+    private final int[] termLength;
+
+    // Root transitions for ASCII are kept in a dense table, all other states use sorted edges
+    private final int[] rootAscii;
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final int[] termAt;
+    private final int[] outputLink;
+
+    /**
+     * Callback for matches, reported in order of their end offset
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+        void onMatch(int skillId, int start, int end);
+    }
+
+    private SkillMatcher(String[] skills, int[] termSkill, int[] termLength, int[] rootAscii,
+                         char[][] edgeChars, int[][] edgeTargets, int[] fail, int[] termAt, int[] outputLink) {
+        this.skills = skills;
+        this.termSkill = termSkill;
+        this.termLength = termLength;
+        this.rootAscii = rootAscii;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.termAt = termAt;
+        this.outputLink = outputLink;
+    }
+
+    /**
+     * Compile a matcher where every skill is matched by its own name
+     */
+    public static SkillMatcher compile(Collection<String> skills) {
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (String skill : skills) {
+            terms.put(skill, skill);
+        }
+        return compile(terms);
+    }
+
+    /**
+     * Compile a matcher from search terms to the skill name each term reports
+     */
+    public static SkillMatcher compile(Map<String, String> termToSkill) {
+        Map<String, Integer> skillIds = new LinkedHashMap<>();
+        List<String> terms = new ArrayList<>();
+        List<Integer> termSkills = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : termToSkill.entrySet()) {
+            String term = normalize(entry.getKey());
+            if (term.isEmpty()) {
+                continue;
+            }
+            Integer skillId = skillIds.computeIfAbsent(entry.getValue(), s -> skillIds.size());
+            terms.add(term);
+            termSkills.add(skillId);
+        }
+
+        // Build the trie
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminal.add(NO_STATE);
+
+        int[] termLength = new int[terms.size()];
+        for (int termId = 0; termId < terms.size(); termId++) {
+            String term = terms.get(termId);
+            termLength[termId] = term.length();
+            int state = ROOT;
+            for (int i = 0; i < term.length(); i++) {
+                Integer next = children.get(state).get(term.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    terminal.add(NO_STATE);
+                    children.get(state).put(term.charAt(i), next);
+                }
+                state = next;
+            }
+            // Duplicate terms keep the first skill they were registered for
+            if (terminal.get(state) == NO_STATE) {
+                terminal.set(state, termId);
+            }
+        }
+
+        int stateCount = children.size();
+        char[][] edgeChars = new char[stateCount][];
+        int[][] edgeTargets = new int[stateCount][];
+        int[] termAt = new int[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            TreeMap<Character, Integer> edges = children.get(state);
+            char[] chars = new char[edges.size()];
+            int[] targets = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                chars[i] = edge.getKey();
+                targets[i] = edge.getValue();
+                i++;
+            }
+            edgeChars[state] = chars;
+            edgeTargets[state] = targets;
+            termAt[state] = terminal.get(state);
+        }
+
+        int[] rootAscii = new int[ASCII_LIMIT];
+        Arrays.fill(rootAscii, NO_STATE);
+        for (int i = 0; i < edgeChars[ROOT].length; i++) {
+            if (edgeChars[ROOT][i] < ASCII_LIMIT) {
+                rootAscii[edgeChars[ROOT][i]] = edgeTargets[ROOT][i];
+            }
+        }
+
+        // Breadth-first pass to compute failure and output links
+        int[] fail = new int[stateCount];
+        int[] outputLink = new int[stateCount];
+        Arrays.fill(outputLink, NO_STATE);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int target : edgeTargets[ROOT]) {
+            fail[target] = ROOT;
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char c = edgeChars[state][i];
+                int target = edgeTargets[state][i];
+                int fallback = fail[state];
+                int next;
+                while ((next = edge(edgeChars, edgeTargets, fallback, c)) == NO_STATE && fallback != ROOT) {
+                    fallback = fail[fallback];
+                }
+                fail[target] = next == NO_STATE ? ROOT : next;
+                outputLink[target] = termAt[fail[target]] != NO_STATE ? fail[target] : outputLink[fail[target]];
+                queue.add(target);
+            }
+        }
+
+        String[] skillNames = skillIds.keySet().toArray(new String[0]);
+        int[] termSkill = termSkills.stream().mapToInt(Integer::intValue).toArray();
+        return new SkillMatcher(skillNames, termSkill, termLength, rootAscii,
+                edgeChars, edgeTargets, fail, termAt, outputLink);
+    }
+
+    /**
+     * Report every word-bounded skill occurrence in the text
+     */
+    public void scan(CharSequence text, MatchHandler handler) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int state = ROOT;
+        for (int pos = 0; pos < length; pos++) {
+            char c = fold(text.charAt(pos));
+            state = next(state, c);
+
+            int out = termAt[state] != NO_STATE ? state : outputLink[state];
+            while (out != NO_STATE) {
+                int termId = termAt[out];
+                int end = pos + 1;
+                int start = end - termLength[termId];
+                if (isBoundary(text, start - 1) && isBoundary(text, end)) {
+                    handler.onMatch(termSkill[termId], start, end);
+                }
+                out = outputLink[out];
+            }
+        }
+    }
+
+    /**
+     * Count word-bounded occurrences of every skill found in the text
+     */
+    public int[] countAll(CharSequence text) {
+        int[] counts = new int[skills.length];
+        scan(text, (skillId, start, end) -> counts[skillId]++);
+        return counts;
+    }
+
+    /**
+     * Skill name reported for the given id
+     */
+    public String skill(int skillId) {
+        return skills[skillId];
+    }
+
+    /**
+     * Number of distinct skills this matcher reports
+     */
+    public int skillCount() {
+        return skills.length;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int target = state == ROOT && c < ASCII_LIMIT
+                    ? rootAscii[c]
+                    : edge(edgeChars, edgeTargets, state, c);
+            if (target != NO_STATE) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private static int edge(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : NO_STATE;
+    }
+
+    private static boolean isBoundary(CharSequence text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    private static char fold(char c) {
+        return Character.isWhitespace(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    private static String normalize(String term) {
+        StringBuilder normalized = new StringBuilder(term.length());
+        for (char c : term.trim().toLowerCase(Locale.ROOT).toCharArray()) {
+            normalized.append(fold(c));
+        }
+        return normalized.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, compiled snapshot of the skill taxonomy.
+ *
+ * Canonical names and all aliases are compiled into one matcher that always reports the
+ * canonical name. A snapshot is built completely before it is published, so readers never
+ * observe a partially built taxonomy.
+ */
+@Getter
+public final class SkillTaxonomy {
+
+    private final String version;
+    private final SkillMatcher matcher;
+    private final Map<String, String> categories;
+    private final Set<String> skills;
+
+    // Canonical names and aliases, each mapped to its canonical name
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> terms;
+
+    private SkillTaxonomy(String version, SkillMatcher matcher, Map<String, String> categories, Set<String> skills,
+                          Map<String, String> terms) {
+        this.version = version;
+        this.matcher = matcher;
+        this.categories = categories;
+        this.skills = skills;
+        this.terms = terms;
+    }
+
+    /**
+     * Compile a taxonomy snapshot from its skill definitions
+     */
+    public static SkillTaxonomy compile(String version, Collection<SkillDefinition> skills) {
+        Map<String, String> terms = new LinkedHashMap<>();
+        Map<String, String> categories = new HashMap<>();
+        Set<String> names = new HashSet<>();
+
+        // Canonical names take precedence over aliases that collide with them
+        for (SkillDefinition skill : skills) {
+            if (skill.getName() == null || skill.getName().isBlank()) {
+                continue;
+            }
+            String name = skill.getName().trim().toLowerCase();
+            terms.put(name, name);
+            names.add(name);
+            if (skill.getCategory() != null) {
+                categories.put(name, skill.getCategory());
+            }
+        }
+        for (SkillDefinition skill : skills) {
+            if (skill.getName() == null || skill.getName().isBlank() || skill.getAliases() == null) {
+                continue;
+            }
+            String name = skill.getName().trim().toLowerCase();
+            for (String alias : skill.getAliases()) {
+                terms.putIfAbsent(alias.trim().toLowerCase(), name);
+            }
+        }
+
+        return new SkillTaxonomy(version, SkillMatcher.compile(terms), Collections.unmodifiableMap(categories),
+                Collections.unmodifiableSet(names), Collections.unmodifiableMap(terms));
+    }
+
+    /**
+     * Category of a canonical skill, or null if it has none
+     */
+    public String category(String skill) {
+        return categories.get(skill);
+    }
+
+    /**
+     * Whether the name is a canonical skill of this snapshot
+     */
+    public boolean contains(String skill) {
+        return skills.contains(skill);
+    }
+
+    /**
+     * Canonical name of a skill or alias, e.g. golang to go; other terms come back lowercased
+     */
+    public String resolve(String term) {
+        String key = term.trim().toLowerCase();
+        return terms.getOrDefault(key, key);
+    }
+
+    /**
+     * Number of canonical skills in this snapshot
+     */
+    public int size() {
+        return matcher.skillCount();
+    }
+}
\ No newline at end of file
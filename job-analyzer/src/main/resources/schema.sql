@@ -0,0 +1,24 @@
+-- Runs after Hibernate's schema update (spring.jpa.defer-datasource-initialization).
+-- Every statement must be idempotent, as it runs on each start of every replica.
+
+-- Move the pooled id sequence past ids assigned while the table used IDENTITY.
+-- Never moves the sequence backwards.
+SELECT setval('jobs_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM jobs) + 50,
+        (SELECT last_value FROM jobs_seq)));
+
+-- Full-text search document, kept current by Postgres. Title matches rank above company,
+-- company above description and description above requirements. Adding the column rewrites
+-- the table once.
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(company, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'C') ||
+        setweight(to_tsvector('english', coalesce(requirements, '')), 'D')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (search_vector);
+
+-- Trigram indexes for title and company autocomplete, matching lower(column) LIKE '%...%'.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_jobs_title_trgm ON jobs USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobs_company_trgm ON jobs USING GIN (lower(company) gin_trgm_ops);
\ No newline at end of file
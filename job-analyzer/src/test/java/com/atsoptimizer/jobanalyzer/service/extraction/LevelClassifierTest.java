@@ -0,0 +1,49 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LevelClassifierTest {
+
+    private static final LevelClassifier CLASSIFIER = LevelClassifier.builder("None")
+            .rule("High", "(?i:high|top)")
+            .rule("Low", "(?i:low)|LO")
+            .build();
+
+    @Test
+    void shouldPickLevelWithMostHits() {
+        LevelClassifier.Classification result = CLASSIFIER.classify("low, low and high");
+
+        assertEquals("Low", result.getLevel());
+        assertEquals(2.0 / 3, result.getConfidence(), 1e-9);
+    }
+
+    @Test
+    void shouldBreakTiesByRuleOrder() {
+        assertEquals("High", CLASSIFIER.classify("low then high").getLevel());
+        assertEquals("High", CLASSIFIER.classify("high then low").getLevel());
+    }
+
+    @Test
+    void shouldOnlyMatchWholeWords() {
+        assertEquals("None", CLASSIFIER.classify("highway below topology").getLevel());
+        assertEquals("High", CLASSIFIER.classify("(top)").getLevel());
+    }
+
+    @Test
+    void shouldHonourCaseSensitiveAlternatives() {
+        assertEquals("Low", CLASSIFIER.classify("LO").getLevel());
+        assertEquals("None", CLASSIFIER.classify("lo and Lo").getLevel());
+    }
+
+    @Test
+    void shouldFallBackWithoutHits() {
+        LevelClassifier.Classification result = CLASSIFIER.classify("nothing here");
+
+        assertEquals("None", result.getLevel());
+        assertEquals(0.0, result.getConfidence(), 0.0);
+        assertEquals("None", CLASSIFIER.classify("").getLevel());
+        assertEquals("None", CLASSIFIER.classify(null).getLevel());
+    }
+}
\ No newline at end of file
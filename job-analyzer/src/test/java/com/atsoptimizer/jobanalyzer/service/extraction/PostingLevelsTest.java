@@ -0,0 +1,69 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PostingLevelsTest {
+
+    @Test
+    void shouldDetectExperienceLevels() {
+        assertEquals("Staff", experience("Staff Software Engineer"));
+        assertEquals("Senior", experience("Senior Backend Engineer with 5+ years of Java"));
+        assertEquals("Mid", experience("Mid-level developer, 3-5 years"));
+        assertEquals("Entry", experience("Junior developer, new graduates welcome"));
+        assertEquals(PostingLevels.NOT_SPECIFIED, experience("Backend developer"));
+    }
+
+    @Test
+    void shouldPreferHigherLevelOnTies() {
+        assertEquals("Senior", experience("Senior or junior candidates"));
+    }
+
+    @Test
+    void shouldCountMentoringJuniorsAsSenior() {
+        String posting = "Senior Engineer. You will mentor junior engineers, review code and "
+                + "help mentor junior engineers on the team. Coaching entry-level hires is part of the role.";
+
+        assertEquals("Senior", experience(posting));
+        assertEquals("Entry", experience("Junior engineer. Our seniors mentor you."));
+    }
+
+    @Test
+    void shouldDetectEducationLevels() {
+        assertEquals("Bachelor's", education("BS in Computer Science or equivalent"));
+        assertEquals("Master's", education("Master's degree preferred"));
+        assertEquals("Master's", education("Masters in Statistics"));
+        assertEquals("Master's", education("Master of Science in Engineering"));
+        assertEquals("Master's", education("MS in Computer Science"));
+        assertEquals("Master's", education("MA degree in Economics"));
+        assertEquals("Master's", education("Bachelor's or MS/PhD, MS in Statistics preferred"));
+        assertEquals("PhD", education("Ph.D. in Physics"));
+        assertEquals("Associate", education("Associate's degree"));
+    }
+
+    @Test
+    void shouldNotMistakeRolesAndToolsForDegrees() {
+        assertEquals(PostingLevels.NOT_SPECIFIED, education("Certified Scrum Master with MS Office skills"));
+        assertEquals(PostingLevels.NOT_SPECIFIED, education("Act as Scrum Master in a team of six"));
+        assertEquals(PostingLevels.NOT_SPECIFIED, education("Experience with master data and MS-Excel"));
+        assertEquals(PostingLevels.NOT_SPECIFIED, education("Work as needed; ms and ma are not degrees"));
+        assertEquals("Bachelor's", education("BA in English and proficiency in MS Word"));
+    }
+
+    @Test
+    void shouldNotMistakeStatesAndCapitalsForDegrees() {
+        assertEquals(PostingLevels.NOT_SPECIFIED, education("Office in Boston, MA with hybrid schedule"));
+        assertEquals(PostingLevels.NOT_SPECIFIED, education("Jackson, MS or remote"));
+        assertEquals(PostingLevels.NOT_SPECIFIED, education("TRAVEL AS NEEDED. BA SUPPORT ROLE"));
+        assertEquals("Associate", education("AS degree in Nursing; on call AS NEEDED"));
+    }
+
+    private static String experience(String text) {
+        return PostingLevels.EXPERIENCE.classify(text).getLevel();
+    }
+
+    private static String education(String text) {
+        return PostingLevels.EDUCATION.classify(text).getLevel();
+    }
+}
\ No newline at end of file
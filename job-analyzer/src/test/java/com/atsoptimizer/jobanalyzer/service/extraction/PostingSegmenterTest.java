@@ -0,0 +1,102 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import com.atsoptimizer.jobanalyzer.service.extraction.PostingSegmenter.Scope;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PostingSegmenterTest {
+
+    @Test
+    void shouldScopeLinesByHeading() {
+        String text = "We build payment systems.\n"
+                + "Requirements:\n"
+                + "- Java\n"
+                + "- Kafka\n"
+                + "Nice to have\n"
+                + "- Rust\n"
+                + "Responsibilities\n"
+                + "- Own services";
+
+        assertEquals(Scope.NEUTRAL, scope(text, "payment"));
+        assertEquals(Scope.REQUIRED, scope(text, "Java"));
+        assertEquals(Scope.REQUIRED, scope(text, "Kafka"));
+        assertEquals(Scope.PREFERRED, scope(text, "Rust"));
+        assertEquals(Scope.NEUTRAL, scope(text, "Own services"));
+    }
+
+    @Test
+    void shouldAcceptMarkdownAndCombinedHeadings() {
+        String text = "# Preferred Qualifications\n"
+                + "Go\n"
+                + "REQUIREMENTS AND QUALIFICATIONS\n"
+                + "Docker";
+
+        assertEquals(Scope.PREFERRED, scope(text, "Go"));
+        assertEquals(Scope.REQUIRED, scope(text, "Docker"));
+    }
+
+    @Test
+    void shouldNotTreatSkillLinesAsHeadings() {
+        String text = "Requirements:\n"
+                + "SQL\n"
+                + "AWS, GCP\n"
+                + "Terraform\n"
+                + "ABOUT THE OFFICE\n"
+                + "Kubernetes";
+
+        assertEquals(Scope.REQUIRED, scope(text, "SQL"));
+        assertEquals(Scope.REQUIRED, scope(text, "GCP"));
+        assertEquals(Scope.REQUIRED, scope(text, "Terraform"));
+        assertEquals(Scope.REQUIRED, scope(text, "Kubernetes"));
+    }
+
+    @Test
+    void shouldKeepInlineIndicatorsToTheirSentence() {
+        String text = "Requirements:\n"
+                + "Java\n"
+                + "Python is a plus\n"
+                + "Spring\n"
+                + "Docker. Helm is nice to have. Postgres";
+
+        assertEquals(Scope.REQUIRED, scope(text, "Java"));
+        assertEquals(Scope.PREFERRED, scope(text, "Python"));
+        assertEquals(Scope.REQUIRED, scope(text, "Spring"));
+        assertEquals(Scope.REQUIRED, scope(text, "Docker"));
+        assertEquals(Scope.PREFERRED, scope(text, "Helm"));
+        assertEquals(Scope.REQUIRED, scope(text, "Postgres"));
+    }
+
+    @Test
+    void shouldMarkRequiredSentencesInNeutralSections() {
+        String text = "You will design APIs. Java is required; Scala is optional.";
+
+        assertEquals(Scope.NEUTRAL, scope(text, "design"));
+        assertEquals(Scope.REQUIRED, scope(text, "Java"));
+        assertEquals(Scope.PREFERRED, scope(text, "Scala"));
+    }
+
+    @Test
+    void shouldApplyInlineHeadingToRestOfSection() {
+        String text = "Nice to have: Go, Rust\n"
+                + "Elixir";
+
+        assertEquals(Scope.PREFERRED, scope(text, "Go"));
+        assertEquals(Scope.PREFERRED, scope(text, "Elixir"));
+    }
+
+    @Test
+    void shouldOpenRequirementsFieldAsRequired() {
+        String description = "Join our data team.\nWe use Airflow";
+        String text = description + "\n" + "Tech stack:\nPython\nBonus: dbt";
+        PostingSegmenter.Segments segments = PostingSegmenter.segment(text, description.length() + 1);
+
+        assertEquals(Scope.NEUTRAL, segments.scopeAt(text.indexOf("Airflow")));
+        assertEquals(Scope.REQUIRED, segments.scopeAt(text.indexOf("Python")));
+        assertEquals(Scope.PREFERRED, segments.scopeAt(text.indexOf("dbt")));
+    }
+
+    private static Scope scope(String text, String fragment) {
+        return PostingSegmenter.segment(text).scopeAt(text.indexOf(fragment));
+    }
+}
\ No newline at end of file
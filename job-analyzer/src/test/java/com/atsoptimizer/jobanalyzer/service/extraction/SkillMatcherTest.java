@@ -0,0 +1,102 @@
+package com.atsoptimizer.jobanalyzer.service.extraction;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SkillMatcherTest {
+
+    @Test
+    void shouldReportAliasesAsTheirSkill() {
+        Map<String, String> terms = new LinkedHashMap<>();
+        terms.put("Go", "Go");
+        terms.put("golang", "Go");
+        terms.put("Kubernetes", "Kubernetes");
+        terms.put("k8s", "Kubernetes");
+        SkillMatcher matcher = SkillMatcher.compile(terms);
+
+        assertEquals(2, matcher.skillCount());
+        assertEquals(Map.of("Go", 2, "Kubernetes", 1), counts(matcher, "Golang services on K8s, written in Go"));
+    }
+
+    @Test
+    void shouldOnlyMatchWholeWords() {
+        SkillMatcher matcher = SkillMatcher.compile(List.of("go", "java", "sql"));
+
+        assertEquals(Map.of(), counts(matcher, "Good javascript, nosql and mysqlx"));
+        assertEquals(Map.of("go", 1, "java", 1, "sql", 1), counts(matcher, "(Go) java/SQL"));
+    }
+
+    @Test
+    void shouldMatchTermsWithPunctuation() {
+        SkillMatcher matcher = SkillMatcher.compile(List.of("C++", "C#", ".NET", "Node.js"));
+
+        assertEquals(Map.of("C++", 1, "C#", 1, ".NET", 1, "Node.js", 1),
+                counts(matcher, "C++, c# and .NET; some node.js"));
+    }
+
+    @Test
+    void shouldReportOverlappingTerms() {
+        SkillMatcher matcher = SkillMatcher.compile(List.of("spring", "spring boot", "boot"));
+
+        assertEquals(Map.of("spring", 1, "spring boot", 1, "boot", 1), counts(matcher, "Spring Boot"));
+        assertEquals(Map.of("spring", 1), counts(matcher, "Spring Bootstrap"));
+    }
+
+    @Test
+    void shouldIgnoreCaseAndLineBreaksInsideTerms() {
+        SkillMatcher matcher = SkillMatcher.compile(List.of("Machine Learning"));
+
+        assertEquals(Map.of("Machine Learning", 2), counts(matcher, "MACHINE LEARNING and machine\nlearning"));
+        assertEquals(Map.of(), counts(matcher, "machine  learning"));
+    }
+
+    @Test
+    void shouldReportOffsetsInEndOrder() {
+        SkillMatcher matcher = SkillMatcher.compile(List.of("python", "aws", "python developer"));
+        List<String> matches = new ArrayList<>();
+
+        matcher.scan("AWS, Python developer", (skillId, start, end) ->
+                matches.add(matcher.skill(skillId) + "@" + start + "-" + end));
+
+        assertEquals(List.of("aws@0-3", "python@5-11", "python developer@5-21"), matches);
+    }
+
+    @Test
+    void shouldKeepFirstSkillForDuplicateTerms() {
+        Map<String, String> terms = new LinkedHashMap<>();
+        terms.put("ml", "Machine Learning");
+        terms.put("ML", "Markup Language");
+        SkillMatcher matcher = SkillMatcher.compile(terms);
+
+        assertEquals(Map.of("Machine Learning", 1), counts(matcher, "ML"));
+    }
+
+    @Test
+    void shouldIgnoreNullAndBlankTerms() {
+        SkillMatcher matcher = SkillMatcher.compile(List.of("  ", "java"));
+        List<String> matches = new ArrayList<>();
+
+        matcher.scan(null, (skillId, start, end) -> matches.add(matcher.skill(skillId)));
+        matcher.scan("", (skillId, start, end) -> matches.add(matcher.skill(skillId)));
+
+        assertEquals(List.of(), matches);
+        assertEquals(Map.of("java", 1), counts(matcher, "java"));
+    }
+
+    private static Map<String, Integer> counts(SkillMatcher matcher, String text) {
+        int[] counts = matcher.countAll(text);
+        Map<String, Integer> found = new LinkedHashMap<>();
+        for (int skillId = 0; skillId < counts.length; skillId++) {
+            if (counts[skillId] > 0) {
+                found.put(matcher.skill(skillId), counts[skillId]);
+            }
+        }
+        return found;
+    }
+}
\ No newline at end of file